@@ -0,0 +1,119 @@
+package com.yakubovskyi.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.yakubovskyi.task.dto.TaskResponseDto;
+import com.yakubovskyi.task.dto.TaskWithUserResponseDto;
+import com.yakubovskyi.task.entity.TaskStatus;
+import com.yakubovskyi.user.dto.UserResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private List<TaskResponseDto> tasks;
+    private List<TaskWithUserResponseDto> tasksWithUser;
+    private List<UserResponseDto> users;
+
+    private byte[] tasksJson;
+    private byte[] tasksWithUserJson;
+    private byte[] usersJson;
+
+    private ObjectWriter writer;
+    private ObjectReader tasksReader;
+    private ObjectReader tasksWithUserReader;
+    private ObjectReader usersReader;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        writer = objectMapper.writer();
+        tasksReader = objectMapper.readerFor(new TypeReference<List<TaskResponseDto>>() {
+        });
+        tasksWithUserReader = objectMapper.readerFor(new TypeReference<List<TaskWithUserResponseDto>>() {
+        });
+        usersReader = objectMapper.readerFor(new TypeReference<List<UserResponseDto>>() {
+        });
+
+        tasks = IntStream.range(0, size)
+                .mapToObj(i -> TaskResponseDto.builder()
+                        .id((long) i)
+                        .userId("user-" + i % 50)
+                        .title("Task " + i)
+                        .status(TaskStatus.values()[i % TaskStatus.values().length])
+                        .build())
+                .toList();
+        tasksWithUser = tasks.stream()
+                .map(task -> TaskWithUserResponseDto.builder()
+                        .id(task.getId())
+                        .userId(task.getUserId())
+                        .title(task.getTitle())
+                        .status(task.getStatus())
+                        .user(com.yakubovskyi.task.dto.UserResponseDto.builder()
+                                .id(task.getUserId())
+                                .name("User " + task.getUserId())
+                                .build())
+                        .build())
+                .toList();
+        users = IntStream.range(0, size)
+                .mapToObj(i -> UserResponseDto.builder()
+                        .id("user-" + i)
+                        .name("User " + i)
+                        .email("user" + i + "@example.com")
+                        .build())
+                .toList();
+
+        tasksJson = writer.writeValueAsBytes(tasks);
+        tasksWithUserJson = writer.writeValueAsBytes(tasksWithUser);
+        usersJson = writer.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] serializeTasks() throws IOException {
+        return writer.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> deserializeTasks() throws IOException {
+        return tasksReader.readValue(tasksJson);
+    }
+
+    @Benchmark
+    public byte[] serializeTasksWithUser() throws IOException {
+        return writer.writeValueAsBytes(tasksWithUser);
+    }
+
+    @Benchmark
+    public List<TaskWithUserResponseDto> deserializeTasksWithUser() throws IOException {
+        return tasksWithUserReader.readValue(tasksWithUserJson);
+    }
+
+    @Benchmark
+    public byte[] serializeUsers() throws IOException {
+        return writer.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public List<UserResponseDto> deserializeUsers() throws IOException {
+        return usersReader.readValue(usersJson);
+    }
+}
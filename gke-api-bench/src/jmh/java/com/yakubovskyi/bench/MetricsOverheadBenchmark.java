@@ -0,0 +1,68 @@
+package com.yakubovskyi.bench;
+
+import com.yakubovskyi.task.dto.CreateTaskRequestDto;
+import com.yakubovskyi.task.dto.TaskResponseDto;
+import com.yakubovskyi.task.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsOverheadBenchmark {
+
+    @Param({"false", "true"})
+    private boolean timed;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Timer timer;
+    private Long id;
+    private String userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = TaskServiceContext.startContext("--management.observations.annotations.enabled=" + timed);
+        taskService = context.getBean(TaskService.class);
+        timer = Timer.builder("bench.timer")
+                .publishPercentileHistogram()
+                .register(context.getBean(MeterRegistry.class));
+        userId = "user-metrics";
+        List<TaskResponseDto> tasks = taskService.createTasks(List.of(new CreateTaskRequestDto(userId, "Task")));
+        id = tasks.get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponseDto getTaskById() {
+        return taskService.getTaskById(id);
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> getTasksByUserId() {
+        return taskService.getTasksByUserId(userId);
+    }
+
+    @Benchmark
+    public void timerRecord() {
+        timer.record(250, TimeUnit.MICROSECONDS);
+    }
+}
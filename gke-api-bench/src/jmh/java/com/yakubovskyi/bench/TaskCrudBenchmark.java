@@ -0,0 +1,85 @@
+package com.yakubovskyi.bench;
+
+import com.yakubovskyi.task.dto.CreateTaskRequestDto;
+import com.yakubovskyi.task.dto.TaskResponseDto;
+import com.yakubovskyi.task.dto.UpdateTaskStatusRequestDto;
+import com.yakubovskyi.task.entity.TaskStatus;
+import com.yakubovskyi.task.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskCrudBenchmark {
+
+    private static final int TASKS = 10_000;
+    private static final int USERS = 100;
+    private static final int BATCH = 100;
+
+    private TaskService taskService;
+    private List<Long> ids;
+
+    @Setup
+    public void setUp(TaskServiceContext context) {
+        taskService = context.taskService();
+        ids = taskService.createTasks(requests(TASKS)).stream()
+                .map(TaskResponseDto::getId)
+                .toList();
+    }
+
+    @Benchmark
+    public TaskResponseDto createTask() {
+        return taskService.createTask(new CreateTaskRequestDto(randomUserId(), "Task"));
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> createTasks() {
+        return taskService.createTasks(requests(BATCH));
+    }
+
+    @Benchmark
+    public TaskResponseDto getTaskById() {
+        return taskService.getTaskById(randomId());
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> getTasksByUserId() {
+        return taskService.getTasksByUserId(randomUserId());
+    }
+
+    @Benchmark
+    public TaskResponseDto updateTaskStatus() {
+        TaskStatus status = TaskStatus.values()[ThreadLocalRandom.current().nextInt(TaskStatus.values().length)];
+        return taskService.updateTaskStatus(randomId(), new UpdateTaskStatusRequestDto(status));
+    }
+
+    @Benchmark
+    public void createAndDeleteTask() {
+        taskService.deleteTask(createTask().getId());
+    }
+
+    private Long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static String randomUserId() {
+        return "user-" + ThreadLocalRandom.current().nextInt(USERS);
+    }
+
+    private static List<CreateTaskRequestDto> requests(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new CreateTaskRequestDto("user-" + i % USERS, "Task " + i))
+                .toList();
+    }
+}
@@ -0,0 +1,39 @@
+package com.yakubovskyi.bench;
+
+import com.yakubovskyi.task.TaskApplication;
+import com.yakubovskyi.task.service.TaskService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+public class TaskServiceContext {
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = startContext();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public TaskService taskService() {
+        return context.getBean(TaskService.class);
+    }
+
+    static ConfigurableApplicationContext startContext(String... args) {
+        return new SpringApplicationBuilder(TaskApplication.class)
+                .run(Stream.concat(Stream.of("--spring.config.name=task-bench"), Stream.of(args))
+                        .toArray(String[]::new));
+    }
+}
@@ -0,0 +1,109 @@
+package com.yakubovskyi.gateway.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.RequestRateLimiterGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AdmissionControlBenchmark {
+
+    private static final String ROUTE_ID = "bench";
+    private static final String THROTTLED_ROUTE_ID = "bench-throttled";
+    private static final GatewayFilterChain PASS_THROUGH = exchange -> Mono.empty();
+
+    @Param({"1", "10000"})
+    private int clients;
+
+    private LocalRateLimiter rateLimiter;
+    private GatewayFilter rateLimitFilter;
+    private GatewayFilter loadSheddingFilter;
+    private String[] keys;
+    private ServerWebExchange[] exchanges;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        keys = IntStream.range(0, clients).mapToObj(i -> "client-" + i).toArray(String[]::new);
+        RateLimiterProperties properties = new RateLimiterProperties();
+        properties.setApiKeys(Set.of(keys));
+        rateLimiter = new LocalRateLimiter(new ConfigurationService(null, () -> null, () -> null), properties, meterRegistry);
+        rateLimiter.getConfig().put(ROUTE_ID, config(1_000_000_000));
+        rateLimiter.getConfig().put(THROTTLED_ROUTE_ID, config(1));
+
+        rateLimitFilter = new RequestRateLimiterGatewayFilterFactory(rateLimiter, new ClientKeyResolver(properties))
+                .apply(new RequestRateLimiterGatewayFilterFactory.Config());
+        LoadSheddingGatewayFilterFactory.Config sheddingConfig = new LoadSheddingGatewayFilterFactory.Config();
+        sheddingConfig.setMaxInFlight(Integer.MAX_VALUE);
+        loadSheddingFilter = new LoadSheddingGatewayFilterFactory(meterRegistry).apply(sheddingConfig);
+
+        Route route = Route.async().id(ROUTE_ID).uri("http://localhost:9090").predicate(exchange -> true).build();
+        exchanges = IntStream.range(0, clients).mapToObj(i -> {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/tasks")
+                    .header(properties.getApiKeyHeader(), keys[i]));
+            exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, route);
+            return exchange;
+        }).toArray(ServerWebExchange[]::new);
+    }
+
+    @Benchmark
+    public RateLimiter.Response rateLimiterAllowed() {
+        return rateLimiter.isAllowed(ROUTE_ID, keys[nextIndex()]).block();
+    }
+
+    @Benchmark
+    public RateLimiter.Response rateLimiterDenied() {
+        return rateLimiter.isAllowed(THROTTLED_ROUTE_ID, keys[nextIndex()]).block();
+    }
+
+    @Benchmark
+    public Void passThrough() {
+        return PASS_THROUGH.filter(exchanges[nextIndex()]).block();
+    }
+
+    @Benchmark
+    public Void requestRateLimiterFilter() {
+        return rateLimitFilter.filter(exchanges[nextIndex()], PASS_THROUGH).block();
+    }
+
+    @Benchmark
+    public Void loadSheddingFilter() {
+        return loadSheddingFilter.filter(exchanges[nextIndex()], PASS_THROUGH).block();
+    }
+
+    private int nextIndex() {
+        next = next + 1 == clients ? 0 : next + 1;
+        return next;
+    }
+
+    private static LocalRateLimiter.Config config(int rate) {
+        LocalRateLimiter.Config config = new LocalRateLimiter.Config();
+        config.setReplenishRate(rate);
+        config.setBurstCapacity(rate);
+        return config;
+    }
+}
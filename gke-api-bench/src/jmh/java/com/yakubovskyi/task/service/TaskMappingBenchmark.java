@@ -0,0 +1,44 @@
+package com.yakubovskyi.task.service;
+
+import com.yakubovskyi.bench.TaskServiceContext;
+import com.yakubovskyi.task.dto.TaskResponseDto;
+import com.yakubovskyi.task.dto.TaskWithUserResponseDto;
+import com.yakubovskyi.task.dto.UserResponseDto;
+import com.yakubovskyi.task.entity.Task;
+import com.yakubovskyi.task.entity.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskMappingBenchmark {
+
+    private TaskService taskService;
+    private Task task;
+    private UserResponseDto user;
+
+    @Setup
+    public void setUp(TaskServiceContext context) {
+        taskService = context.taskService();
+        task = Task.builder().id(42L).userId("user-42").title("Prepare the quarterly report").status(TaskStatus.IN_PROGRESS).build();
+        user = UserResponseDto.builder().id("user-42").name("John Doe").build();
+    }
+
+    @Benchmark
+    public TaskResponseDto mapToResponse() {
+        return taskService.mapToResponse(task);
+    }
+
+    @Benchmark
+    public TaskWithUserResponseDto mapToResponseWithUser() {
+        return taskService.mapToResponse(task, user);
+    }
+}
@@ -0,0 +1,47 @@
+package com.yakubovskyi.user.service;
+
+import com.yakubovskyi.user.document.User;
+import com.yakubovskyi.user.dto.UserResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserMappingBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private UserService userService;
+    private List<User> users;
+
+    @Setup
+    public void setUp() {
+        userService = new UserService(null, null);
+        users = IntStream.range(0, size)
+                .mapToObj(i -> User.builder()
+                        .id("user-" + i)
+                        .name("User " + i)
+                        .email("user" + i + "@example.com")
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public List<UserResponseDto> mapToResponse() {
+        return users.stream()
+                .map(userService::mapToResponse)
+                .toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.yakubovskyi.bench.load;
+
+import com.yakubovskyi.gateway.GatewayApplication;
+import com.yakubovskyi.task.TaskApplication;
+import com.yakubovskyi.user.UserApplication;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+final class InProcessServices implements AutoCloseable {
+
+    private static final String JPA_AUTO_CONFIGURATION = String.join(",",
+            "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+            "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration");
+    private static final String MONGO_AUTO_CONFIGURATION = String.join(",",
+            "org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.mongo.MongoRepositoriesAutoConfiguration",
+            "org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveRepositoriesAutoConfiguration");
+
+    private static final int UNLIMITED = 1_000_000;
+
+    private static final String[] COMMON_ARGS = {
+            "--server.port=0",
+            "--management.server.port=-1",
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=WARN"
+    };
+
+    private final MongoServer mongo;
+    private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private final String gatewayUrl;
+
+    private InProcessServices(Path rootDir) {
+        mongo = new MongoServer(new MemoryBackend());
+        InetSocketAddress mongoAddress = mongo.bind();
+
+        int userPort = start(UserApplication.class,
+                "--spring.config.location=" + config(rootDir, "gke-api-user/src/main/resources/application.yml"),
+                "--spring.main.web-application-type=servlet",
+                "--spring.cloud.gateway.enabled=false",
+                "--spring.autoconfigure.exclude=" + JPA_AUTO_CONFIGURATION,
+                "--spring.data.mongodb.uri=mongodb://localhost:" + mongoAddress.getPort() + "/UserDB");
+
+        int taskPort = start(TaskApplication.class,
+                "--spring.config.location=" + config(rootDir, "gke-api-task/src/main/resources/application.yml")
+                        + "," + config(rootDir, "gke-api-task/src/test/resources/application-test.yml"),
+                "--spring.main.web-application-type=servlet",
+                "--spring.cloud.gateway.enabled=false",
+                "--spring.autoconfigure.exclude=" + MONGO_AUTO_CONFIGURATION,
+                "--user-service.url=",
+                "--user-snapshot.enabled=true",
+                "--load-balancer.instances.user-service=http://localhost:" + userPort);
+
+        int gatewayPort = start(GatewayApplication.class,
+                "--spring.config.location=" + config(rootDir, "gke-api-gateway/src/main/resources/application.yml"),
+                "--spring.autoconfigure.exclude=" + JPA_AUTO_CONFIGURATION + "," + MONGO_AUTO_CONFIGURATION,
+                "--TASK_SERVICE_PORT=" + taskPort,
+                "--USER_SERVICE_PORT=" + userPort,
+                "--TASK_RATE_LIMIT=" + UNLIMITED,
+                "--TASK_RATE_BURST=" + UNLIMITED,
+                "--USER_RATE_LIMIT=" + UNLIMITED,
+                "--USER_RATE_BURST=" + UNLIMITED,
+                "--COMPOSITE_RATE_LIMIT=" + UNLIMITED,
+                "--COMPOSITE_RATE_BURST=" + UNLIMITED);
+        gatewayUrl = "http://localhost:" + gatewayPort;
+    }
+
+    static InProcessServices start(Path rootDir) {
+        return new InProcessServices(rootDir);
+    }
+
+    String gatewayUrl() {
+        return gatewayUrl;
+    }
+
+    private int start(Class<?> application, String... args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(application)
+                .run(Stream.concat(Stream.of(COMMON_ARGS), Stream.of(args)).toArray(String[]::new));
+        contexts.add(context);
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private static String config(Path rootDir, String path) {
+        return "file:" + rootDir.resolve(path).toAbsolutePath();
+    }
+
+    @Override
+    public void close() {
+        contexts.reversed().forEach(ConfigurableApplicationContext::close);
+        mongo.shutdownNow();
+    }
+}
@@ -0,0 +1,214 @@
+package com.yakubovskyi.bench.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+public final class LoadTest {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private LoadTest(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        try (InProcessServices services = InProcessServices.start(config.rootDir())) {
+            new LoadTest(config).run(services.gatewayUrl());
+        }
+        System.exit(0);
+    }
+
+    private void run(String gateway) throws IOException, InterruptedException {
+        Operation.SeedData seed = seed(gateway);
+        System.out.printf("Seeded %d users and %d tasks, warming up for %s%n",
+                seed.userIds().size(), seed.taskIds().size(), config.warmUp());
+        drive(gateway, seed, config.warmUp());
+
+        System.out.printf("Measuring %s with %d clients, mix %s%n", config.duration(), config.clients(), routeMix());
+        Map<Operation, RouteResult> results = drive(gateway, seed, config.duration());
+
+        print(results);
+        write(results);
+    }
+
+    private Operation.SeedData seed(String gateway) throws IOException, InterruptedException {
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < config.users(); i++) {
+            JsonNode user = send(post(gateway + "/api/users",
+                    Map.of("name", "Load User " + i, "email", "load" + i + "@example.com")));
+            userIds.add(user.get("id").asText());
+        }
+        List<Map<String, String>> tasks = IntStream.range(0, config.tasks())
+                .mapToObj(i -> Map.of("userId", userIds.get(i % userIds.size()), "title", "Load task " + i))
+                .toList();
+        List<Long> taskIds = new ArrayList<>();
+        send(post(gateway + "/api/tasks/batch", tasks)).forEach(task -> taskIds.add(task.get("id").asLong()));
+        return new Operation.SeedData(List.copyOf(userIds), List.copyOf(taskIds));
+    }
+
+    private Map<Operation, RouteResult> drive(String gateway, Operation.SeedData seed, Duration duration)
+            throws InterruptedException {
+        Operation[] weighted = config.mix().entrySet().stream()
+                .flatMap(entry -> IntStream.range(0, entry.getValue()).mapToObj(i -> entry.getKey()))
+                .toArray(Operation[]::new);
+        ConcurrentLinkedQueue<Map<Operation, RouteResult>> perClient = new ConcurrentLinkedQueue<>();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < config.clients(); c++) {
+                clients.submit(() -> {
+                    Map<Operation, RouteResult> results = new EnumMap<>(Operation.class);
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+                        RouteResult result = results.computeIfAbsent(operation, o -> new RouteResult());
+                        long start = System.nanoTime();
+                        boolean ok;
+                        try {
+                            int status = client.send(operation.request(gateway, seed),
+                                    HttpResponse.BodyHandlers.discarding()).statusCode();
+                            ok = status >= 200 && status < 300;
+                        } catch (IOException e) {
+                            ok = false;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        result.record(System.nanoTime() - start, ok);
+                    }
+                    perClient.add(results);
+                });
+            }
+        }
+
+        Map<Operation, RouteResult> merged = new EnumMap<>(Operation.class);
+        perClient.forEach(results -> results.forEach((operation, result) ->
+                merged.computeIfAbsent(operation, o -> new RouteResult()).add(result)));
+        return merged;
+    }
+
+    private void print(Map<Operation, RouteResult> results) {
+        System.out.printf("%-16s %10s %8s %10s %10s %10s %10s %10s%n",
+                "route", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        summarize(results).forEach((route, summary) -> System.out.printf("%-16s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                route, summary.requests(), summary.errors(), summary.throughput(),
+                summary.p50Ms(), summary.p99Ms(), summary.p999Ms(), summary.maxMs()));
+    }
+
+    private void write(Map<Operation, RouteResult> results) throws IOException {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("warmUp", config.warmUp().toString());
+        settings.put("duration", config.duration().toString());
+        settings.put("clients", config.clients());
+        settings.put("users", config.users());
+        settings.put("tasks", config.tasks());
+        settings.put("mix", routeMix());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("commit", System.getProperty("load.commit", "unknown"));
+        report.put("config", settings);
+        report.put("routes", summarize(results));
+
+        Files.createDirectories(config.reportFile().toAbsolutePath().getParent());
+        objectMapper.writeValue(config.reportFile().toFile(), report);
+        System.out.println("Report written to " + config.reportFile().toAbsolutePath());
+    }
+
+    private Map<String, Integer> routeMix() {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix().forEach((operation, weight) -> mix.put(operation.routeName(), weight));
+        return mix;
+    }
+
+    private Map<String, RouteSummary> summarize(Map<Operation, RouteResult> results) {
+        Map<String, RouteSummary> summaries = new LinkedHashMap<>();
+        RouteResult total = new RouteResult();
+        results.forEach((operation, result) -> {
+            summaries.put(operation.routeName(), result.summary(config.duration()));
+            total.add(result);
+        });
+        summaries.put("total", total.summary(config.duration()));
+        return summaries;
+    }
+
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest post(String uri, Object body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private static final class RouteResult {
+        private final Histogram latencies = new Histogram(SIGNIFICANT_DIGITS);
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void add(RouteResult other) {
+            latencies.add(other.latencies);
+            errors += other.errors;
+        }
+
+        RouteSummary summary(Duration duration) {
+            return new RouteSummary(
+                    latencies.getTotalCount(),
+                    errors,
+                    latencies.getTotalCount() / (duration.toMillis() / 1000.0),
+                    millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    record RouteSummary(long requests, long errors, double throughput,
+                        double p50Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+}
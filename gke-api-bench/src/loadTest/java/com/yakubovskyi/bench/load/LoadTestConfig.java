@@ -0,0 +1,49 @@
+package com.yakubovskyi.bench.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+record LoadTestConfig(
+        Path rootDir,
+        Path reportFile,
+        Duration warmUp,
+        Duration duration,
+        int clients,
+        int users,
+        int tasks,
+        Map<Operation, Integer> mix) {
+
+    static final String DEFAULT_MIX = "task-get:40,task-with-user:20,task-by-user:10,task-create:5,user-get:25";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Path.of(System.getProperty("load.rootDir", ".")),
+                Path.of(System.getProperty("load.report", "build/reports/load-test/report.json")),
+                Duration.parse("PT" + System.getProperty("load.warmUp", "10s")),
+                Duration.parse("PT" + System.getProperty("load.duration", "30s")),
+                Integer.getInteger("load.clients", 50),
+                Integer.getInteger("load.users", 100),
+                Integer.getInteger("load.tasks", 1000),
+                parseMix(System.getProperty("load.mix", DEFAULT_MIX)));
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected <operation>:<weight> in load.mix but got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.byName(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix has no operation with a positive weight");
+        }
+        return weights;
+    }
+}
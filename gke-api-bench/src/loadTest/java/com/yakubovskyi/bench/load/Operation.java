@@ -0,0 +1,67 @@
+package com.yakubovskyi.bench.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+
+enum Operation {
+    TASK_GET("task-get", (gateway, seed) ->
+            get(gateway + "/api/tasks/" + random(seed.taskIds()))),
+    TASK_WITH_USER("task-with-user", (gateway, seed) ->
+            get(gateway + "/api/tasks/" + random(seed.taskIds()) + "/with-user")),
+    TASK_BY_USER("task-by-user", (gateway, seed) ->
+            get(gateway + "/api/tasks/user/" + random(seed.userIds()))),
+    TASK_CREATE("task-create", (gateway, seed) ->
+            post(gateway + "/api/tasks", "{\"userId\":\"" + random(seed.userIds()) + "\",\"title\":\"Load test task\"}")),
+    USER_GET("user-get", (gateway, seed) ->
+            get(gateway + "/api/users/" + random(seed.userIds()))),
+    COMPOSITE_TASK("composite-task", (gateway, seed) ->
+            get(gateway + "/api/composite/tasks/" + random(seed.taskIds()))),
+    COMPOSITE_PAGE("composite-page", (gateway, seed) ->
+            get(gateway + "/api/composite/tasks?limit=50&afterId=" + random(seed.taskIds())));
+
+    private final String routeName;
+    private final BiFunction<String, SeedData, HttpRequest> request;
+
+    Operation(String routeName, BiFunction<String, SeedData, HttpRequest> request) {
+        this.routeName = routeName;
+        this.request = request;
+    }
+
+    String routeName() {
+        return routeName;
+    }
+
+    HttpRequest request(String gateway, SeedData seed) {
+        return request.apply(gateway, seed);
+    }
+
+    static Operation byName(String routeName) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.routeName.equals(routeName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + routeName
+                        + ", expected one of " + Arrays.stream(values()).map(Operation::routeName).toList()));
+    }
+
+    private static <T> T random(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+
+    private static HttpRequest post(String uri, String json) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    record SeedData(List<String> userIds, List<Long> taskIds) {
+    }
+}
@@ -0,0 +1,223 @@
+package com.yakubovskyi.bench.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final long POLL_INTERVAL_MILLIS = 10;
+    private static final double MB = 1024.0 * 1024.0;
+
+    private final StartupConfig config;
+    private final String mongoUri;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(POLL_TIMEOUT)
+            .build();
+
+    private StartupBenchmark(StartupConfig config, String mongoUri) {
+        this.config = config;
+        this.mongoUri = mongoUri;
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupConfig config = StartupConfig.fromSystemProperties();
+        MongoServer mongo = new MongoServer(new MemoryBackend());
+        InetSocketAddress mongoAddress = mongo.bind();
+        try {
+            new StartupBenchmark(config, "mongodb://localhost:" + mongoAddress.getPort() + "/UserDB").run();
+        } finally {
+            mongo.shutdownNow();
+        }
+        System.exit(0);
+    }
+
+    private void run() throws IOException, InterruptedException {
+        List<StartupResult> results = new ArrayList<>();
+        for (StartupService service : config.services()) {
+            Path jar = service.jar(config.rootDir());
+            if (!Files.exists(jar)) {
+                throw new IllegalStateException(jar + " is missing, run cdsArchive for " + service.serviceName() + " first");
+            }
+            for (StartupMode mode : config.modes()) {
+                if (mode.cds() && !Files.exists(service.archive(config.rootDir()))) {
+                    throw new IllegalStateException(service.archive(config.rootDir()) + " is missing, run cdsArchive for "
+                            + service.serviceName() + " first");
+                }
+                Path log = config.reportFile().toAbsolutePath()
+                        .resolveSibling(service.serviceName() + "-" + mode.modeName() + ".log");
+                List<Sample> samples = new ArrayList<>();
+                for (int run = 1; run <= config.runs(); run++) {
+                    System.out.printf("%s/%s: run %d of %d%n", service.serviceName(), mode.modeName(), run, config.runs());
+                    samples.add(start(service, mode, log));
+                }
+                results.add(StartupResult.of(service, mode, samples));
+            }
+        }
+        print(results);
+        write(results);
+    }
+
+    private Sample start(StartupService service, StartupMode mode, Path log) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(mode.jvmArgs(service.archive(config.rootDir())));
+        command.addAll(List.of(
+                "-cp", classpath(service),
+                service.mainClass(),
+                "--server.port=" + port,
+                "--management.server.port=" + port,
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        command.addAll(serviceArgs(service));
+        Files.createDirectories(log.getParent());
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            awaitReady(service, process, "http://localhost:" + port + "/actuator/health/readiness", log);
+            long readyNanos = System.nanoTime() - started;
+            return new Sample(readyNanos / 1_000_000.0, residentBytes(process));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void awaitReady(StartupService service, Process process, String url, Path log) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(POLL_TIMEOUT).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(service.serviceName() + " exited with " + process.exitValue() + ", see " + log);
+            }
+            if (ready(request)) {
+                return;
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+        throw new IllegalStateException(service.serviceName() + " was not ready within " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    private boolean ready(HttpRequest request) throws InterruptedException {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private String classpath(StartupService service) {
+        String jar = service.jar(config.rootDir()).toString();
+        return service == StartupService.TASK ? jar + File.pathSeparator + h2Jar() : jar;
+    }
+
+    private List<String> serviceArgs(StartupService service) {
+        return switch (service) {
+            case TASK -> List.of(
+                    "--spring.config.additional-location=file:"
+                            + config.rootDir().resolve("gke-api-task/src/test/resources/application-test.yml").toAbsolutePath(),
+                    "--user-snapshot.enabled=true");
+            case USER -> List.of("--spring.data.mongodb.uri=" + mongoUri);
+            case GATEWAY -> List.of();
+        };
+    }
+
+    private void print(List<StartupResult> results) {
+        System.out.printf("%-8s %-8s %5s %12s %10s %10s %9s%n",
+                "service", "mode", "runs", "ready p50 ms", "min ms", "max ms", "rss MB");
+        results.forEach(result -> System.out.printf("%-8s %-8s %5d %12.0f %10.0f %10.0f %9.1f%n",
+                result.service(), result.mode(), result.runs(), result.readyP50Ms(), result.readyMinMs(),
+                result.readyMaxMs(), result.rssP50Mb()));
+    }
+
+    private void write(List<StartupResult> results) throws IOException {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("runs", config.runs());
+        settings.put("services", config.services().stream().map(StartupService::serviceName).toList());
+        settings.put("modes", config.modes().stream().map(StartupMode::modeName).toList());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("commit", System.getProperty("load.commit", "unknown"));
+        report.put("cpus", Runtime.getRuntime().availableProcessors());
+        report.put("java", Runtime.version().toString());
+        report.put("config", settings);
+        report.put("results", results);
+
+        Files.createDirectories(config.reportFile().toAbsolutePath().getParent());
+        objectMapper.writeValue(config.reportFile().toFile(), report);
+        System.out.println("Report written to " + config.reportFile().toAbsolutePath());
+    }
+
+    private static String h2Jar() {
+        return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .filter(entry -> Path.of(entry).getFileName().toString().startsWith("h2-"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("H2 is not on the benchmark classpath"));
+    }
+
+    private static long residentBytes(Process process) throws IOException {
+        Path status = Path.of("/proc", Long.toString(process.pid()), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.substring("VmRSS:".length()).trim().split("\\s+")[0])
+                .mapToLong(kilobytes -> Long.parseLong(kilobytes) * 1024)
+                .findFirst()
+                .orElse(-1);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    record Sample(double readyMs, long residentBytes) {
+    }
+
+    record StartupResult(String service, String mode, int runs, double readyP50Ms, double readyMinMs,
+                         double readyMaxMs, double rssP50Mb) {
+
+        static StartupResult of(StartupService service, StartupMode mode, List<Sample> samples) {
+            double[] ready = samples.stream().mapToDouble(Sample::readyMs).sorted().toArray();
+            long[] rss = samples.stream().mapToLong(Sample::residentBytes).sorted().toArray();
+            double rssMb = rss[rss.length / 2] < 0 ? -1 : rss[rss.length / 2] / MB;
+            return new StartupResult(service.serviceName(), mode.modeName(), samples.size(),
+                    ready[ready.length / 2], ready[0], ready[ready.length - 1], rssMb);
+        }
+    }
+}
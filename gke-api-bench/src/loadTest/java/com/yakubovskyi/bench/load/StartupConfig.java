@@ -0,0 +1,28 @@
+package com.yakubovskyi.bench.load;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+record StartupConfig(
+        Path rootDir,
+        Path reportFile,
+        int runs,
+        List<StartupService> services,
+        List<StartupMode> modes) {
+
+    static StartupConfig fromSystemProperties() {
+        return new StartupConfig(
+                Path.of(System.getProperty("load.rootDir", ".")),
+                Path.of(System.getProperty("startup.report", "build/reports/startup/report.json")),
+                Integer.getInteger("startup.runs", 5),
+                Arrays.stream(System.getProperty("startup.services", "task,user,gateway").split(","))
+                        .map(String::trim)
+                        .map(StartupService::byName)
+                        .toList(),
+                Arrays.stream(System.getProperty("startup.modes", "jvm,aot,aot-cds").split(","))
+                        .map(String::trim)
+                        .map(StartupMode::byName)
+                        .toList());
+    }
+}
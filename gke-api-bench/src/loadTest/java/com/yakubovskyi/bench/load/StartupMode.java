@@ -0,0 +1,49 @@
+package com.yakubovskyi.bench.load;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+enum StartupMode {
+    JVM("jvm", false, false),
+    AOT("aot", true, false),
+    AOT_CDS("aot-cds", true, true);
+
+    private final String modeName;
+    private final boolean aot;
+    private final boolean cds;
+
+    StartupMode(String modeName, boolean aot, boolean cds) {
+        this.modeName = modeName;
+        this.aot = aot;
+        this.cds = cds;
+    }
+
+    String modeName() {
+        return modeName;
+    }
+
+    boolean cds() {
+        return cds;
+    }
+
+    List<String> jvmArgs(Path archive) {
+        List<String> args = new ArrayList<>();
+        if (aot) {
+            args.add("-Dspring.aot.enabled=true");
+        }
+        if (cds) {
+            args.add("-XX:SharedArchiveFile=" + archive);
+        }
+        return args;
+    }
+
+    static StartupMode byName(String name) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.modeName.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown mode: " + name + ", expected one of "
+                        + Arrays.stream(values()).map(StartupMode::modeName).toList()));
+    }
+}
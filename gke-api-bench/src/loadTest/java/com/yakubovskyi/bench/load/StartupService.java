@@ -0,0 +1,44 @@
+package com.yakubovskyi.bench.load;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+enum StartupService {
+    TASK("task", "gke-api-task", "com.yakubovskyi.task.TaskApplication"),
+    USER("user", "gke-api-user", "com.yakubovskyi.user.UserApplication"),
+    GATEWAY("gateway", "gke-api-gateway", "com.yakubovskyi.gateway.GatewayApplication");
+
+    private final String serviceName;
+    private final String project;
+    private final String mainClass;
+
+    StartupService(String serviceName, String project, String mainClass) {
+        this.serviceName = serviceName;
+        this.project = project;
+        this.mainClass = mainClass;
+    }
+
+    String serviceName() {
+        return serviceName;
+    }
+
+    String mainClass() {
+        return mainClass;
+    }
+
+    Path jar(Path rootDir) {
+        return rootDir.resolve(project + "/build/cds/" + project + ".jar").toAbsolutePath();
+    }
+
+    Path archive(Path rootDir) {
+        return rootDir.resolve(project + "/build/cds/" + project + ".jsa").toAbsolutePath();
+    }
+
+    static StartupService byName(String name) {
+        return Arrays.stream(values())
+                .filter(service -> service.serviceName.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown service: " + name + ", expected one of "
+                        + Arrays.stream(values()).map(StartupService::serviceName).toList()));
+    }
+}
@@ -0,0 +1,167 @@
+package com.yakubovskyi.bench.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+final class UserServiceProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final String EXCLUDED_AUTO_CONFIGURATION = String.join(",",
+            "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+            "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration");
+
+    private final Process process;
+    private final String url;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private UserServiceProcess(Process process, String url) {
+        this.process = process;
+        this.url = url;
+    }
+
+    static UserServiceProcess start(UserStack stack, String mongoUri, UserStackConfig config, Path log)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(
+                javaCommand("java"),
+                "-Xms" + config.heap(),
+                "-Xmx" + config.heap(),
+                "-cp", System.getProperty("java.class.path"),
+                "com.yakubovskyi.user.UserApplication",
+                "--spring.config.location=file:" + config.rootDir().resolve("gke-api-user/src/main/resources").toAbsolutePath() + "/",
+                "--server.port=" + port,
+                "--management.server.port=" + port,
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.cloud.gateway.enabled=false",
+                "--spring.autoconfigure.exclude=" + EXCLUDED_AUTO_CONFIGURATION,
+                "--management.health.mongo.enabled=false",
+                "--spring.data.mongodb.uri=" + mongoUri));
+        command.addAll(stack.args());
+        Files.createDirectories(log.toAbsolutePath().getParent());
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        UserServiceProcess server = new UserServiceProcess(process, "http://localhost:" + port);
+        server.awaitHealthy(log);
+        return server;
+    }
+
+    String url() {
+        return url;
+    }
+
+    Sample sample() throws IOException, InterruptedException {
+        return new Sample(residentBytes(), threads(), heapUsed());
+    }
+
+    Sample settledSample() throws IOException, InterruptedException {
+        new ProcessBuilder(javaCommand("jcmd"), Long.toString(process.pid()), "GC.run")
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start()
+                .waitFor(30, TimeUnit.SECONDS);
+        return sample();
+    }
+
+    long residentBytes() throws IOException {
+        long kilobytes = status("VmRSS:");
+        return kilobytes < 0 ? -1 : kilobytes * 1024;
+    }
+
+    long threads() throws IOException {
+        return status("Threads:");
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+        client.close();
+    }
+
+    private void awaitHealthy(Path log) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("user-service exited with " + process.exitValue() + ", see " + log);
+            }
+            if (healthy()) {
+                return;
+            }
+            Thread.sleep(200);
+        }
+        close();
+        throw new IllegalStateException("user-service did not become healthy within " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    private boolean healthy() throws InterruptedException {
+        try {
+            return client.send(HttpRequest.newBuilder(URI.create(url + "/actuator/health"))
+                            .timeout(REQUEST_TIMEOUT)
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private long heapUsed() throws InterruptedException {
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(URI.create(url + "/actuator/metrics/jvm.memory.used?tag=area:heap"))
+                            .timeout(REQUEST_TIMEOUT)
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            return objectMapper.readTree(response.body()).get("measurements").get(0).get("value").asLong();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private long status(String field) throws IOException {
+        Path status = Path.of("/proc", Long.toString(process.pid()), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith(field))
+                .map(line -> line.substring(field.length()).trim().split("\\s+")[0])
+                .mapToLong(Long::parseLong)
+                .findFirst()
+                .orElse(-1);
+    }
+
+    private static String javaCommand(String tool) {
+        return Path.of(System.getProperty("java.home"), "bin", tool).toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    record Sample(long residentBytes, long threads, long heapBytes) {
+    }
+}
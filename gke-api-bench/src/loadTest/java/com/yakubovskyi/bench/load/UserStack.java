@@ -0,0 +1,34 @@
+package com.yakubovskyi.bench.load;
+
+import java.util.Arrays;
+import java.util.List;
+
+enum UserStack {
+    SERVLET("servlet", List.of()),
+    SERVLET_VIRTUAL("servlet-virtual", List.of("--spring.threads.virtual.enabled=true")),
+    REACTIVE("reactive", List.of("--spring.profiles.active=reactive"));
+
+    private final String stackName;
+    private final List<String> args;
+
+    UserStack(String stackName, List<String> args) {
+        this.stackName = stackName;
+        this.args = args;
+    }
+
+    String stackName() {
+        return stackName;
+    }
+
+    List<String> args() {
+        return args;
+    }
+
+    static UserStack byName(String name) {
+        return Arrays.stream(values())
+                .filter(stack -> stack.stackName.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown stack: " + name + ", expected one of "
+                        + Arrays.stream(values()).map(UserStack::stackName).toList()));
+    }
+}
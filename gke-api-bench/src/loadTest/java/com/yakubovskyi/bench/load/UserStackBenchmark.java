@@ -0,0 +1,288 @@
+package com.yakubovskyi.bench.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public final class UserStackBenchmark {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final long SAMPLE_INTERVAL_MILLIS = 100;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final UserStackConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private UserStackBenchmark(UserStackConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        UserStackConfig config = UserStackConfig.fromSystemProperties();
+        MongoServer mongo = new MongoServer(new MemoryBackend());
+        InetSocketAddress mongoAddress = mongo.bind();
+        try {
+            new UserStackBenchmark(config).run("mongodb://localhost:" + mongoAddress.getPort() + "/UserDB");
+        } finally {
+            mongo.shutdownNow();
+        }
+        System.exit(0);
+    }
+
+    private void run(String mongoUri) throws IOException, InterruptedException {
+        List<LevelResult> results = new ArrayList<>();
+        for (UserStack stack : config.stacks()) {
+            Path log = config.reportFile().toAbsolutePath().resolveSibling(stack.stackName() + ".log");
+            try (UserServiceProcess server = UserServiceProcess.start(stack, mongoUri, config, log)) {
+                List<String> userIds = seed(server.url());
+                System.out.printf("%s: %d users, warming up for %s%n", stack.stackName(), userIds.size(), config.warmUp());
+                try (HttpClient client = newClient()) {
+                    drive(client, server.url(), userIds, config.clients().get(0), config.warmUp(), null);
+                }
+                for (int clients : config.clients()) {
+                    System.out.printf("%s: measuring %s with %d clients%n", stack.stackName(), config.duration(), clients);
+                    results.add(measure(stack, server, userIds, clients));
+                }
+            }
+        }
+        print(results);
+        write(results);
+    }
+
+    private LevelResult measure(UserStack stack, UserServiceProcess server, List<String> userIds, int clients)
+            throws IOException, InterruptedException {
+        UserServiceProcess.Sample idle = server.settledSample();
+        Peak peak = new Peak(idle);
+        try (HttpClient client = newClient()) {
+            LoadResult load = drive(client, server.url(), userIds, clients, config.duration(), () -> peak.sample(server));
+            UserServiceProcess.Sample loaded = server.settledSample();
+            return new LevelResult(stack.stackName(), clients, load.summary(config.duration()),
+                    MemorySummary.of(idle, peak.residentBytes.get(), peak.threads.get(), loaded, clients));
+        }
+    }
+
+    private List<String> seed(String url) throws IOException, InterruptedException {
+        try (HttpClient client = newClient()) {
+            List<String> userIds = export(client, url);
+            if (userIds.size() < config.users()) {
+                String ndjson = IntStream.range(userIds.size(), config.users())
+                        .mapToObj(i -> "{\"name\":\"Stack User " + i + "\",\"email\":\"stack" + i + "@example.com\"}")
+                        .collect(Collectors.joining("\n"));
+                HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url + "/api/v1/user/bulk"))
+                                .header("Content-Type", "application/x-ndjson")
+                                .POST(HttpRequest.BodyPublishers.ofString(ndjson))
+                                .build(),
+                        HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() >= 300) {
+                    throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": " + response.body());
+                }
+                userIds = export(client, url);
+            }
+            return userIds;
+        }
+    }
+
+    private List<String> export(HttpClient client, String url) throws IOException, InterruptedException {
+        HttpResponse<Stream<String>> response = client.send(
+                HttpRequest.newBuilder(URI.create(url + "/api/v1/user/export")).build(),
+                HttpResponse.BodyHandlers.ofLines());
+        List<String> userIds = new ArrayList<>();
+        for (String line : response.body().filter(line -> !line.isBlank()).toList()) {
+            userIds.add(objectMapper.readTree(line).get("id").asText());
+        }
+        return userIds;
+    }
+
+    private LoadResult drive(HttpClient client, String url, List<String> userIds, int clients, Duration duration,
+                             Sampler sampler) throws InterruptedException {
+        ConcurrentLinkedQueue<LoadResult> perClient = new ConcurrentLinkedQueue<>();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                workers.submit(() -> {
+                    LoadResult result = new LoadResult();
+                    while (System.nanoTime() < deadline) {
+                        String id = userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+                        long start = System.nanoTime();
+                        boolean ok;
+                        try {
+                            int status = client.send(HttpRequest.newBuilder(URI.create(url + "/api/v1/user/" + id))
+                                            .timeout(REQUEST_TIMEOUT)
+                                            .build(),
+                                    HttpResponse.BodyHandlers.discarding()).statusCode();
+                            ok = status == 200;
+                        } catch (IOException e) {
+                            ok = false;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        result.record(System.nanoTime() - start, ok);
+                    }
+                    perClient.add(result);
+                });
+            }
+            if (sampler != null) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        try {
+                            sampler.sample();
+                            Thread.sleep(SAMPLE_INTERVAL_MILLIS);
+                        } catch (IOException e) {
+                            return;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+
+        LoadResult merged = new LoadResult();
+        perClient.forEach(merged::add);
+        return merged;
+    }
+
+    private void print(List<LevelResult> results) {
+        System.out.printf("%-16s %8s %10s %8s %9s %9s %9s %9s %11s %12s %12s%n",
+                "stack", "clients", "req/s", "errors", "p50 ms", "p99 ms", "threads", "rss MB",
+                "peak rss MB", "rss/conn KB", "heap/conn KB");
+        results.forEach(result -> System.out.printf("%-16s %8d %10.1f %8d %9.2f %9.2f %9d %9.1f %11.1f %12.1f %12.1f%n",
+                result.stack(), result.clients(), result.load().throughput(), result.load().errors(),
+                result.load().p50Ms(), result.load().p99Ms(), result.memory().peakThreads(),
+                result.memory().idleRssMb(), result.memory().peakRssMb(),
+                result.memory().rssPerConnectionKb(), result.memory().heapPerConnectionKb()));
+    }
+
+    private void write(List<LevelResult> results) throws IOException {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("warmUp", config.warmUp().toString());
+        settings.put("duration", config.duration().toString());
+        settings.put("clients", config.clients());
+        settings.put("users", config.users());
+        settings.put("heap", config.heap());
+        settings.put("stacks", config.stacks().stream().map(UserStack::stackName).toList());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("commit", System.getProperty("load.commit", "unknown"));
+        report.put("cpus", Runtime.getRuntime().availableProcessors());
+        report.put("config", settings);
+        report.put("results", results);
+
+        Files.createDirectories(config.reportFile().toAbsolutePath().getParent());
+        objectMapper.writeValue(config.reportFile().toFile(), report);
+        System.out.println("Report written to " + config.reportFile().toAbsolutePath());
+    }
+
+    private static HttpClient newClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    private interface Sampler {
+        void sample() throws IOException;
+    }
+
+    private static final class Peak {
+        private final AtomicLong residentBytes;
+        private final AtomicLong threads;
+
+        Peak(UserServiceProcess.Sample idle) {
+            residentBytes = new AtomicLong(idle.residentBytes());
+            threads = new AtomicLong(idle.threads());
+        }
+
+        void sample(UserServiceProcess server) throws IOException {
+            residentBytes.accumulateAndGet(server.residentBytes(), Math::max);
+            threads.accumulateAndGet(server.threads(), Math::max);
+        }
+    }
+
+    private static final class LoadResult {
+        private final Histogram latencies = new Histogram(SIGNIFICANT_DIGITS);
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void add(LoadResult other) {
+            latencies.add(other.latencies);
+            errors += other.errors;
+        }
+
+        LoadSummary summary(Duration duration) {
+            return new LoadSummary(
+                    latencies.getTotalCount(),
+                    errors,
+                    latencies.getTotalCount() / (duration.toMillis() / 1000.0),
+                    millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    record LoadSummary(long requests, long errors, double throughput, double p50Ms, double p99Ms, double maxMs) {
+    }
+
+    record MemorySummary(long idleThreads, long peakThreads, double idleRssMb, double peakRssMb,
+                         double rssPerConnectionKb, double heapPerConnectionKb) {
+
+        private static final double KB = 1024.0;
+        private static final double MB = KB * KB;
+
+        static MemorySummary of(UserServiceProcess.Sample idle, long peakRss, long peakThreads,
+                                UserServiceProcess.Sample loaded, int clients) {
+            double heapPerConnection = idle.heapBytes() < 0 || loaded.heapBytes() < 0
+                    ? -1
+                    : (loaded.heapBytes() - idle.heapBytes()) / KB / clients;
+            if (idle.residentBytes() < 0) {
+                return new MemorySummary(idle.threads(), peakThreads, -1, -1, -1, heapPerConnection);
+            }
+            return new MemorySummary(idle.threads(), peakThreads, idle.residentBytes() / MB, peakRss / MB,
+                    (peakRss - idle.residentBytes()) / KB / clients, heapPerConnection);
+        }
+    }
+
+    record LevelResult(String stack, int clients, LoadSummary load, MemorySummary memory) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.yakubovskyi.bench.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+record UserStackConfig(
+        Path rootDir,
+        Path reportFile,
+        Duration warmUp,
+        Duration duration,
+        List<Integer> clients,
+        int users,
+        String heap,
+        List<UserStack> stacks) {
+
+    static UserStackConfig fromSystemProperties() {
+        return new UserStackConfig(
+                Path.of(System.getProperty("load.rootDir", ".")),
+                Path.of(System.getProperty("stack.report", "build/reports/user-stack/report.json")),
+                Duration.parse("PT" + System.getProperty("stack.warmUp", "10s")),
+                Duration.parse("PT" + System.getProperty("stack.duration", "20s")),
+                Arrays.stream(System.getProperty("stack.clients", "100,1000,4000").split(","))
+                        .map(String::trim)
+                        .map(Integer::valueOf)
+                        .toList(),
+                Integer.getInteger("stack.users", 1000),
+                System.getProperty("stack.heap", "512m"),
+                Arrays.stream(System.getProperty("stack.stacks", "servlet,servlet-virtual,reactive").split(","))
+                        .map(String::trim)
+                        .map(UserStack::byName)
+                        .toList());
+    }
+}
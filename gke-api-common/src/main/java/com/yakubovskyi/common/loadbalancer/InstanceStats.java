@@ -0,0 +1,43 @@
+package com.yakubovskyi.common.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class InstanceStats {
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long ejectedUntil;
+
+    InstanceStats(long nowNanos) {
+        this.ejectedUntil = nowNanos;
+    }
+
+    int outstanding() {
+        return outstanding.get();
+    }
+
+    boolean isEjected(long nowNanos) {
+        return nowNanos - ejectedUntil < 0;
+    }
+
+    void start() {
+        outstanding.incrementAndGet();
+    }
+
+    void release() {
+        outstanding.decrementAndGet();
+    }
+
+    boolean recordOutcome(boolean failed, long nowNanos, StaticLoadBalancerProperties.Ejection ejection) {
+        if (!failed) {
+            consecutiveFailures.set(0);
+            return false;
+        }
+        if (consecutiveFailures.incrementAndGet() < ejection.getConsecutiveFailures()) {
+            return false;
+        }
+        consecutiveFailures.set(0);
+        ejectedUntil = nowNanos + ejection.getDuration().toNanos();
+        return true;
+    }
+}
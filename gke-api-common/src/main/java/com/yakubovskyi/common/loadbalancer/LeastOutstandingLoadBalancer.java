@@ -0,0 +1,126 @@
+package com.yakubovskyi.common.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+public class LeastOutstandingLoadBalancer
+        implements ReactorServiceInstanceLoadBalancer, LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private final String serviceId;
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final StaticLoadBalancerProperties.Ejection ejection;
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    public LeastOutstandingLoadBalancer(String serviceId,
+                                        ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                        StaticLoadBalancerProperties.Ejection ejection) {
+        this.serviceId = serviceId;
+        this.supplierProvider = supplierProvider;
+        this.ejection = ejection;
+    }
+
+    public static void release(ServiceInstance instance) {
+        if (instance instanceof TrackedServiceInstance tracked) {
+            tracked.release();
+        }
+    }
+
+    public int outstanding(String instanceId) {
+        InstanceStats instanceStats = stats.get(instanceId);
+        return instanceStats != null ? instanceStats.outstanding() : 0;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !(lbResponse.getServer() instanceof TrackedServiceInstance instance) || !instance.release()) {
+            return;
+        }
+        if (completionContext.status() == CompletionContext.Status.DISCARD) {
+            return;
+        }
+        long now = System.nanoTime();
+        boolean failed = completionContext.status() == CompletionContext.Status.FAILED
+                || isServerError(completionContext.getClientResponse())
+                || (!isEventStream(completionContext.getClientResponse())
+                        && now - instance.startNanos() > ejection.getSlowCallThreshold().toNanos());
+        if (instance.stats().recordOutcome(failed, now, ejection)) {
+            log.warn("Ejecting {} instance {} for {} after {} consecutive failed or slow calls",
+                    serviceId, instance.getInstanceId(), ejection.getDuration(), ejection.getConsecutiveFailures());
+        }
+    }
+
+    private Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        long now = System.nanoTime();
+        List<ServiceInstance> healthy = instances.stream()
+                .filter(instance -> !stats(instance, now).isEjected(now))
+                .toList();
+        List<ServiceInstance> candidates = healthy.isEmpty() ? instances : healthy;
+        ServiceInstance chosen = candidates.size() == 1 ? candidates.get(0) : powerOfTwoChoices(candidates, now);
+        return new DefaultResponse(new TrackedServiceInstance(chosen, stats(chosen, now), now));
+    }
+
+    private ServiceInstance powerOfTwoChoices(List<ServiceInstance> candidates, long now) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return stats(a, now).outstanding() <= stats(b, now).outstanding() ? a : b;
+    }
+
+    private InstanceStats stats(ServiceInstance instance, long now) {
+        return stats.computeIfAbsent(instance.getInstanceId(), id -> new InstanceStats(now));
+    }
+
+    private static boolean isEventStream(Object clientResponse) {
+        return clientResponse instanceof ResponseData response
+                && response.getHeaders() != null
+                && MediaType.TEXT_EVENT_STREAM.isCompatibleWith(response.getHeaders().getContentType());
+    }
+
+    private static boolean isServerError(Object clientResponse) {
+        return clientResponse instanceof ResponseData response
+                && response.getHttpStatus() != null
+                && response.getHttpStatus().is5xxServerError();
+    }
+}
@@ -0,0 +1,34 @@
+package com.yakubovskyi.common.loadbalancer;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.net.URI;
+import java.util.List;
+
+public class LeastOutstandingLoadBalancerConfiguration {
+
+    @Bean
+    public ServiceInstanceListSupplier serviceInstanceListSupplier(Environment environment,
+                                                                   StaticLoadBalancerProperties properties,
+                                                                   ConfigurableApplicationContext context) {
+        String serviceId = LoadBalancerClientFactory.getName(environment);
+        List<URI> uris = properties.getInstances().get(serviceId);
+        if (uris == null || uris.isEmpty()) {
+            return ServiceInstanceListSupplier.builder().withDiscoveryClient().build(context);
+        }
+        return new StaticServiceInstanceListSupplier(serviceId, uris);
+    }
+
+    @Bean
+    public LeastOutstandingLoadBalancer leastOutstandingLoadBalancer(Environment environment,
+                                                                     LoadBalancerClientFactory clientFactory,
+                                                                     StaticLoadBalancerProperties properties) {
+        String serviceId = LoadBalancerClientFactory.getName(environment);
+        return new LeastOutstandingLoadBalancer(serviceId,
+                clientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class), properties.getEjection());
+    }
+}
@@ -0,0 +1,13 @@
+package com.yakubovskyi.common.loadbalancer;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+
+@AutoConfiguration
+@ConditionalOnClass(name = "org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients")
+@EnableConfigurationProperties(StaticLoadBalancerProperties.class)
+@LoadBalancerClients(defaultConfiguration = LeastOutstandingLoadBalancerConfiguration.class)
+public class StaticLoadBalancerAutoConfiguration {
+}
@@ -0,0 +1,24 @@
+package com.yakubovskyi.common.loadbalancer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "load-balancer")
+public class StaticLoadBalancerProperties {
+    private Map<String, List<URI>> instances = new HashMap<>();
+    private Ejection ejection = new Ejection();
+
+    @Data
+    public static class Ejection {
+        private int consecutiveFailures = 5;
+        private Duration slowCallThreshold = Duration.ofSeconds(2);
+        private Duration duration = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,40 @@
+package com.yakubovskyi.common.loadbalancer;
+
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.net.URI;
+import java.util.List;
+
+public class StaticServiceInstanceListSupplier implements ServiceInstanceListSupplier {
+
+    private final String serviceId;
+    private final List<ServiceInstance> instances;
+
+    public StaticServiceInstanceListSupplier(String serviceId, List<URI> uris) {
+        this.serviceId = serviceId;
+        this.instances = uris.stream()
+                .map(uri -> (ServiceInstance) new DefaultServiceInstance(serviceId + "@" + uri.getAuthority(), serviceId,
+                        uri.getHost(), port(uri), "https".equals(uri.getScheme())))
+                .toList();
+    }
+
+    @Override
+    public String getServiceId() {
+        return serviceId;
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        return Flux.just(instances);
+    }
+
+    private static int port(URI uri) {
+        if (uri.getPort() != -1) {
+            return uri.getPort();
+        }
+        return "https".equals(uri.getScheme()) ? 443 : 80;
+    }
+}
@@ -0,0 +1,78 @@
+package com.yakubovskyi.common.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class TrackedServiceInstance implements ServiceInstance {
+
+    private final ServiceInstance delegate;
+    private final InstanceStats stats;
+    private final long startNanos;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    TrackedServiceInstance(ServiceInstance delegate, InstanceStats stats, long startNanos) {
+        this.delegate = delegate;
+        this.stats = stats;
+        this.startNanos = startNanos;
+        stats.start();
+    }
+
+    InstanceStats stats() {
+        return stats;
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    boolean release() {
+        if (!released.compareAndSet(false, true)) {
+            return false;
+        }
+        stats.release();
+        return true;
+    }
+
+    @Override
+    public String getInstanceId() {
+        return delegate.getInstanceId();
+    }
+
+    @Override
+    public String getServiceId() {
+        return delegate.getServiceId();
+    }
+
+    @Override
+    public String getHost() {
+        return delegate.getHost();
+    }
+
+    @Override
+    public int getPort() {
+        return delegate.getPort();
+    }
+
+    @Override
+    public boolean isSecure() {
+        return delegate.isSecure();
+    }
+
+    @Override
+    public URI getUri() {
+        return delegate.getUri();
+    }
+
+    @Override
+    public String getScheme() {
+        return delegate.getScheme();
+    }
+
+    @Override
+    public Map<String, String> getMetadata() {
+        return delegate.getMetadata();
+    }
+}
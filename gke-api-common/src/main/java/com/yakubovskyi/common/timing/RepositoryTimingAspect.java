@@ -0,0 +1,35 @@
+package com.yakubovskyi.common.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Aspect
+public class RepositoryTimingAspect {
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } finally {
+            ServerTiming.record(ServerTiming.DB, start);
+        }
+        if (result instanceof Mono<?> mono) {
+            return Mono.deferContextual(context -> {
+                long subscribed = System.nanoTime();
+                return mono.doOnTerminate(() -> ServerTiming.record(context, ServerTiming.DB, subscribed));
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.deferContextual(context -> {
+                long subscribed = System.nanoTime();
+                return flux.doOnTerminate(() -> ServerTiming.record(context, ServerTiming.DB, subscribed));
+            });
+        }
+        return result;
+    }
+}
@@ -0,0 +1,124 @@
+package com.yakubovskyi.common.timing;
+
+import reactor.util.context.ContextView;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    public static final String APP = "app";
+    public static final String DB = "db";
+    public static final String USER = "user";
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final String service;
+    private final String traceId;
+    private final long startNanos = System.nanoTime();
+    private final Map<String, LongAdder> durations = new ConcurrentHashMap<>();
+    private final Queue<String> downstream = new ConcurrentLinkedQueue<>();
+
+    public ServerTiming(String service, String traceId) {
+        this.service = service;
+        this.traceId = traceId;
+    }
+
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void record(String phase, long startNanos) {
+        ServerTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.add(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    public static void record(ContextView context, String phase, long startNanos) {
+        context.<ServerTiming>getOrEmpty(ServerTiming.class)
+                .ifPresent(timing -> timing.add(phase, System.nanoTime() - startNanos));
+    }
+
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        ServerTiming timing = CURRENT.get();
+        if (timing == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = timing.bind()) {
+                return task.get();
+            }
+        };
+    }
+
+    public static Runnable propagate(Runnable task) {
+        ServerTiming timing = CURRENT.get();
+        if (timing == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = timing.bind()) {
+                task.run();
+            }
+        };
+    }
+
+    public Scope bind() {
+        ServerTiming previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public String traceId() {
+        return traceId;
+    }
+
+    public void add(String phase, long nanos) {
+        durations.computeIfAbsent(phase, p -> new LongAdder()).add(nanos);
+    }
+
+    public void merge(Collection<String> headerValues) {
+        headerValues.stream()
+                .flatMap(value -> Stream.of(value.split(",")))
+                .map(String::trim)
+                .filter(metric -> !metric.isEmpty())
+                .forEach(downstream::add);
+    }
+
+    public String header() {
+        String own = Stream.concat(
+                        Stream.of(metric(APP, System.nanoTime() - startNanos)),
+                        durations.entrySet().stream()
+                                .sorted(Map.Entry.comparingByKey())
+                                .map(entry -> metric(entry.getKey(), entry.getValue().sum())))
+                .collect(Collectors.joining(", "));
+        return downstream.isEmpty() ? own : own + ", " + String.join(", ", downstream);
+    }
+
+    private String metric(String phase, long nanos) {
+        return String.format(Locale.ROOT, "%s.%s;dur=%.1f", service, phase, nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,47 @@
+package com.yakubovskyi.common.timing;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@AutoConfiguration
+@ConditionalOnProperty(prefix = "server-timing", name = "service")
+@EnableConfigurationProperties(ServerTimingProperties.class)
+public class ServerTimingAutoConfiguration {
+
+    @Bean
+    @ConditionalOnClass(name = {"org.aspectj.lang.annotation.Aspect", "org.springframework.data.repository.Repository",
+            "reactor.core.publisher.Mono"})
+    public RepositoryTimingAspect repositoryTimingAspect() {
+        return new RepositoryTimingAspect();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletServerTimingConfiguration {
+
+        @Bean
+        public ServerTimingFilter serverTimingFilter(ServerTimingProperties properties) {
+            return new ServerTimingFilter(properties.getService());
+        }
+
+        @Bean
+        public ServerTimingResponseAdvice serverTimingResponseAdvice() {
+            return new ServerTimingResponseAdvice();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveServerTimingConfiguration {
+
+        @Bean
+        public ServerTimingWebFilter serverTimingWebFilter(ServerTimingProperties properties) {
+            return new ServerTimingWebFilter(properties.getService());
+        }
+    }
+}
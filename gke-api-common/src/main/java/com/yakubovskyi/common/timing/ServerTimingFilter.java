@@ -0,0 +1,46 @@
+package com.yakubovskyi.common.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String ATTRIBUTE = ServerTiming.class.getName();
+    private static final String TRACE_ID_MDC_KEY = "traceId";
+
+    private final String service;
+
+    public ServerTimingFilter(String service) {
+        this.service = service;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String traceId = request.getHeader(ServerTiming.TRACE_ID_HEADER);
+        ServerTiming timing = new ServerTiming(service, StringUtils.hasText(traceId) ? traceId : null);
+        request.setAttribute(ATTRIBUTE, timing);
+        if (timing.traceId() != null) {
+            response.setHeader(ServerTiming.TRACE_ID_HEADER, timing.traceId());
+            MDC.put(TRACE_ID_MDC_KEY, timing.traceId());
+        }
+        try (ServerTiming.Scope ignored = timing.bind()) {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(TRACE_ID_MDC_KEY);
+        }
+        if (!request.isAsyncStarted() && !response.isCommitted()) {
+            response.setHeader(ServerTiming.HEADER, timing.header());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.yakubovskyi.common.timing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "server-timing")
+public class ServerTimingProperties {
+    private String service;
+}
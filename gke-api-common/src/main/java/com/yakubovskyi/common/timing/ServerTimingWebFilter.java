@@ -0,0 +1,37 @@
+package com.yakubovskyi.common.timing;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingWebFilter implements WebFilter {
+
+    private final String service;
+
+    public ServerTimingWebFilter(String service) {
+        this.service = service;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String traceId = exchange.getRequest().getHeaders().getFirst(ServerTiming.TRACE_ID_HEADER);
+        ServerTiming timing = new ServerTiming(service, StringUtils.hasText(traceId) ? traceId : null);
+        ServerHttpResponse response = exchange.getResponse();
+        if (timing.traceId() != null) {
+            response.getHeaders().set(ServerTiming.TRACE_ID_HEADER, timing.traceId());
+        }
+        response.beforeCommit(() -> {
+            response.getHeaders().set(ServerTiming.HEADER, timing.header());
+            return Mono.empty();
+        });
+        return chain.filter(exchange)
+                .contextWrite(Context.of(ServerTiming.class, timing));
+    }
+}
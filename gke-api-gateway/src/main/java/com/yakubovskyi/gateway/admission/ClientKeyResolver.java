@@ -0,0 +1,48 @@
+package com.yakubovskyi.gateway.admission;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ClientKeyResolver implements KeyResolver {
+
+    private static final String UNKNOWN = "unknown";
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final RateLimiterProperties properties;
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        String apiKey = exchange.getRequest().getHeaders().getFirst(properties.getApiKeyHeader());
+        if (StringUtils.hasText(apiKey) && properties.getApiKeys().contains(apiKey)) {
+            return Mono.just("key:" + apiKey);
+        }
+        String forwardedFor = forwardedClient(exchange.getRequest().getHeaders());
+        if (forwardedFor != null) {
+            return Mono.just("ip:" + forwardedFor);
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        return Mono.just("ip:" + (remoteAddress != null ? remoteAddress.getHostString() : UNKNOWN));
+    }
+
+    private String forwardedClient(HttpHeaders headers) {
+        int trustedProxies = properties.getTrustedProxies();
+        List<String> hops = new ArrayList<>();
+        for (String value : headers.getOrEmpty(X_FORWARDED_FOR)) {
+            for (String hop : StringUtils.tokenizeToStringArray(value, ",")) {
+                hops.add(hop);
+            }
+        }
+        return trustedProxies > 0 && hops.size() >= trustedProxies ? hops.get(hops.size() - trustedProxies) : null;
+    }
+}
@@ -0,0 +1,77 @@
+package com.yakubovskyi.gateway.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+@Component
+public class LoadSheddingGatewayFilterFactory extends AbstractGatewayFilterFactory<LoadSheddingGatewayFilterFactory.Config> {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Upstream> upstreams = new ConcurrentHashMap<>();
+
+    public LoadSheddingGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("maxInFlight", "status");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String retryAfter = Long.toString(Math.max(1, config.getRetryAfter().toSeconds()));
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+            Upstream upstream = upstreams.computeIfAbsent(route.getUri().getAuthority(), this::register);
+            if (upstream.inFlight().incrementAndGet() > config.getMaxInFlight()) {
+                upstream.inFlight().decrementAndGet();
+                upstream.shed().increment();
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(config.getStatus());
+                response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfter);
+                return response.setComplete();
+            }
+            return chain.filter(exchange).doFinally(signal -> upstream.inFlight().decrementAndGet());
+        };
+    }
+
+    private Upstream register(String authority) {
+        AtomicInteger inFlight = new AtomicInteger();
+        Gauge.builder("gateway.upstream.in.flight", inFlight, Number::doubleValue)
+                .tag("upstream", authority)
+                .register(meterRegistry);
+        Counter shed = Counter.builder("gateway.requests.shed")
+                .tag("upstream", authority)
+                .register(meterRegistry);
+        return new Upstream(inFlight, shed);
+    }
+
+    private record Upstream(AtomicInteger inFlight, Counter shed) {
+    }
+
+    @Data
+    public static class Config {
+        private int maxInFlight = 200;
+        private HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
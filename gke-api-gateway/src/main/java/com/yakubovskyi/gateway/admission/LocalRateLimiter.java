@@ -0,0 +1,90 @@
+package com.yakubovskyi.gateway.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+@Component
+public class LocalRateLimiter extends AbstractRateLimiter<LocalRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "local-rate-limiter";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+
+    private static final Config DEFAULT_CONFIG = new Config();
+
+    private final Cache<Key, TokenBucket> buckets;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public LocalRateLimiter(ConfigurationService configurationService, RateLimiterProperties properties,
+                            MeterRegistry meterRegistry) {
+        this(configurationService, properties, meterRegistry, System::nanoTime);
+    }
+
+    LocalRateLimiter(ConfigurationService configurationService, RateLimiterProperties properties,
+                     MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .ticker(nanoClock::getAsLong)
+                .maximumSize(properties.getMaxClients())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "gateway-rate-limiter");
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, DEFAULT_CONFIG);
+        long now = nanoClock.getAsLong();
+        long interval = Math.max(1, TimeUnit.SECONDS.toNanos(1) / config.getReplenishRate());
+        long result = buckets.get(new Key(routeId, id), key -> new TokenBucket(now))
+                .tryAcquire(now, config.getRequestedTokens(), interval, config.getBurstCapacity());
+        if (result >= 0) {
+            return Mono.just(new Response(true, headers(config, result)));
+        }
+        Map<String, String> headers = headers(config, 0);
+        headers.put(HttpHeaders.RETRY_AFTER, Long.toString(TimeUnit.NANOSECONDS.toSeconds(-result - 1) + 1));
+        return Mono.just(new Response(false, headers));
+    }
+
+    private static Map<String, String> headers(Config config, long remaining) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(REMAINING_HEADER, Long.toString(remaining));
+        headers.put(REPLENISH_RATE_HEADER, Integer.toString(config.getReplenishRate()));
+        headers.put(BURST_CAPACITY_HEADER, Integer.toString(config.getBurstCapacity()));
+        return headers;
+    }
+
+    record Key(String routeId, String id) {
+    }
+
+    @Data
+    @Validated
+    public static class Config {
+        @Min(1)
+        private int replenishRate = 100;
+        @Min(1)
+        private int burstCapacity = 200;
+        @Min(1)
+        private int requestedTokens = 1;
+    }
+}
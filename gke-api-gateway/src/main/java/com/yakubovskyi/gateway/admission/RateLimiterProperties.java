@@ -0,0 +1,18 @@
+package com.yakubovskyi.gateway.admission;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+@Data
+@ConfigurationProperties(prefix = "gateway.rate-limiter")
+public class RateLimiterProperties {
+    private long maxClients = 100_000;
+    private Duration idleTimeout = Duration.ofMinutes(5);
+    private String apiKeyHeader = "X-API-Key";
+    private Set<String> apiKeys = new HashSet<>();
+    private int trustedProxies = 0;
+}
@@ -0,0 +1,27 @@
+package com.yakubovskyi.gateway.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    long tryAcquire(long nowNanos, long tokens, long intervalNanos, long capacity) {
+        long tolerance = intervalNanos * capacity;
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + intervalNanos * tokens;
+            long backlog = next - nowNanos;
+            if (backlog > tolerance) {
+                return -(backlog - tolerance);
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return (tolerance - backlog) / intervalNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.yakubovskyi.gateway.cache;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+
+public record CachedResponse(MediaType contentType, String etag, byte[] body, Duration ttl) {
+
+    private static final int OVERHEAD_BYTES = 256;
+
+    public static CachedResponse of(MediaType contentType, String upstreamEtag, byte[] body, Duration ttl) {
+        String etag = upstreamEtag != null ? upstreamEtag : "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        return new CachedResponse(contentType, etag, body, ttl);
+    }
+
+    public int weight() {
+        return body.length + OVERHEAD_BYTES;
+    }
+}
@@ -0,0 +1,104 @@
+package com.yakubovskyi.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Component
+public class ResponseCache {
+
+    private static final String NAME = "gateway-responses";
+
+    private final Cache<Key, CachedResponse> cache;
+    private final ConcurrentNavigableMap<String, Set<Key>> keysByPath = new ConcurrentSkipListMap<>();
+    private final long maxEntrySize;
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.maxEntrySize = properties.getMaxEntrySize().toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((Key key, CachedResponse response) -> response.weight())
+                .expireAfter(new Expiry<Key, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(Key key, CachedResponse response, long currentTime) {
+                        return response.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Key key, CachedResponse response, long currentTime, long currentDuration) {
+                        return response.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(Key key, CachedResponse response, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .evictionListener((Key key, CachedResponse response, RemovalCause cause) -> unindex(key))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+        Gauge.builder("cache.weighted.size", cache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0))
+                        .orElse(0L))
+                .tag("cache", NAME)
+                .baseUnit("bytes")
+                .description("Approximate memory held by cached response bodies")
+                .register(meterRegistry);
+    }
+
+    public CachedResponse get(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(Key key, CachedResponse response) {
+        if (response.body().length <= maxEntrySize) {
+            keysByPath.compute(key.path(), (path, keys) -> {
+                Set<Key> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                indexed.add(key);
+                return indexed;
+            });
+            cache.put(key, response);
+        }
+    }
+
+    public void invalidatePaths(Set<String> paths) {
+        paths.forEach(path -> {
+            Set<Key> keys = keysByPath.remove(path);
+            if (keys != null) {
+                cache.invalidateAll(keys);
+            }
+        });
+    }
+
+    public Set<String> pathsUnder(String prefix) {
+        String subtree = prefix + "/";
+        Set<String> paths = new HashSet<>();
+        paths.add(prefix);
+        keysByPath.tailMap(subtree).keySet().stream()
+                .takeWhile(path -> path.startsWith(subtree))
+                .forEach(paths::add);
+        return paths;
+    }
+
+    private void unindex(Key key) {
+        keysByPath.computeIfPresent(key.path(), (path, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    public record Key(String path, String query) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.yakubovskyi.gateway.cache;
+
+import lombok.Data;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    public static final String CACHE_HEADER = "X-Cache";
+    private static final Set<HttpMethod> COLLECTION_MUTATIONS = Set.of(HttpMethod.POST);
+    private static final Set<HttpMethod> RESOURCE_MUTATIONS = Set.of(HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+
+    private final ResponseCache responseCache;
+
+    public ResponseCacheGatewayFilterFactory(ResponseCache responseCache) {
+        super(Config.class);
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (HttpMethod.GET.equals(request.getMethod()) && config.getTtl() != null) {
+                return cached(exchange, chain, config.getTtl());
+            }
+            if (mutatedPaths(request).isEmpty()) {
+                return chain.filter(exchange);
+            }
+            return Mono.fromRunnable(() -> responseCache.invalidatePaths(stalePaths(request, config)))
+                    .then(chain.filter(exchange))
+                    .then(Mono.fromRunnable(() -> {
+                        if (exchange.getResponse().getStatusCode() != null
+                                && exchange.getResponse().getStatusCode().is2xxSuccessful()) {
+                            responseCache.invalidatePaths(stalePaths(request, config));
+                        }
+                    }));
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Mono<Void> cached(ServerWebExchange exchange, GatewayFilterChain chain, Duration ttl) {
+        ServerHttpRequest request = exchange.getRequest();
+        ResponseCache.Key key = new ResponseCache.Key(request.getPath().value(), request.getURI().getRawQuery());
+        CachedResponse hit = noCache(request) ? null : responseCache.get(key);
+        ServerHttpResponse response = exchange.getResponse();
+        if (hit != null) {
+            response.getHeaders().set(CACHE_HEADER, "HIT");
+            if (exchange.checkNotModified(hit.etag())) {
+                return response.setComplete();
+            }
+            response.getHeaders().setContentType(hit.contentType());
+            response.getHeaders().setContentLength(hit.body().length);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(hit.body())));
+        }
+        ServerHttpResponse caching = new ServerHttpResponseDecorator(response) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                HttpHeaders headers = getHeaders();
+                if (!HttpStatus.OK.equals(getStatusCode()) || noStore(headers)) {
+                    return super.writeWith(body);
+                }
+                return DataBufferUtils.join(body).flatMap(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    CachedResponse entry = CachedResponse.of(headers.getContentType(), headers.getETag(), bytes, ttl);
+                    responseCache.put(key, entry);
+                    headers.set(CACHE_HEADER, "MISS");
+                    if (exchange.checkNotModified(entry.etag())) {
+                        headers.remove(HttpHeaders.CONTENT_LENGTH);
+                        headers.remove(HttpHeaders.CONTENT_TYPE);
+                        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                        return getDelegate().setComplete();
+                    }
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                });
+            }
+        };
+        return chain.filter(exchange.mutate().response(caching).build());
+    }
+
+    private Set<String> stalePaths(ServerHttpRequest request, Config config) {
+        if (config.getPurge() == null) {
+            return mutatedPaths(request);
+        }
+        Set<String> stale = new HashSet<>(mutatedPaths(request));
+        stale.addAll(responseCache.pathsUnder(config.getPurge()));
+        return stale;
+    }
+
+    private static Set<String> mutatedPaths(ServerHttpRequest request) {
+        String path = request.getPath().value();
+        if (COLLECTION_MUTATIONS.contains(request.getMethod())) {
+            return Set.of(path);
+        }
+        if (RESOURCE_MUTATIONS.contains(request.getMethod())) {
+            return Set.of(path, path.substring(0, Math.max(path.lastIndexOf('/'), 0)));
+        }
+        return Set.of();
+    }
+
+    private static boolean noCache(ServerHttpRequest request) {
+        return request.getHeaders().getCacheControl() != null
+                && request.getHeaders().getCacheControl().contains(CacheControl.noCache().getHeaderValue());
+    }
+
+    private static boolean noStore(HttpHeaders headers) {
+        return headers.getCacheControl() != null
+                && headers.getCacheControl().contains(CacheControl.noStore().getHeaderValue());
+    }
+
+    @Data
+    public static class Config {
+        private Duration ttl;
+        private String purge;
+    }
+}
@@ -0,0 +1,12 @@
+package com.yakubovskyi.gateway.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+    private DataSize maxEntrySize = DataSize.ofKilobytes(256);
+}
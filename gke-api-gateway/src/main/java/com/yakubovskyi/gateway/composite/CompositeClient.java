@@ -0,0 +1,62 @@
+package com.yakubovskyi.gateway.composite;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.yakubovskyi.gateway.loadbalancer.LoadBalancerReleaseTransformer;
+import com.yakubovskyi.gateway.timing.ServerTimingFilter;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Component
+public class CompositeClient {
+
+    private static final String TASK_SERVICE = "http://task-service/api/v1/task";
+    private static final String USER_SERVICE = "http://user-service/api/v1/user";
+
+    private final WebClient webClient;
+
+    public CompositeClient(WebClient.Builder builder, LoadBalancedExchangeFilterFunction loadBalancer,
+                           LoadBalancerReleaseTransformer loadBalancerRelease, HttpClient httpClient) {
+        this.webClient = builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(loadBalancerRelease.releaseOnFinally())
+                .filter(loadBalancer)
+                .build();
+    }
+
+    public Mono<ObjectNode> task(String id, String traceId) {
+        return webClient.get()
+                .uri(TASK_SERVICE + "/{id}", id)
+                .header(ServerTimingFilter.TRACE_ID_HEADER, traceId)
+                .retrieve()
+                .bodyToMono(ObjectNode.class);
+    }
+
+    public Mono<ObjectNode> taskPage(String afterId, String limit, String traceId) {
+        return webClient.get()
+                .uri(TASK_SERVICE + "/page", uri -> uri
+                        .queryParamIfPresent("afterId", Optional.ofNullable(afterId))
+                        .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                        .build())
+                .header(ServerTimingFilter.TRACE_ID_HEADER, traceId)
+                .retrieve()
+                .bodyToMono(ObjectNode.class);
+    }
+
+    public Flux<JsonNode> users(Collection<String> ids, String traceId) {
+        return webClient.post()
+                .uri(USER_SERVICE + "/lookup")
+                .header(ServerTimingFilter.TRACE_ID_HEADER, traceId)
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToFlux(JsonNode.class);
+    }
+}
@@ -0,0 +1,149 @@
+package com.yakubovskyi.gateway.composite;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.yakubovskyi.gateway.timing.ServerTimingFilter;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Component
+public class TaskCompositionGatewayFilterFactory extends AbstractGatewayFilterFactory<TaskCompositionGatewayFilterFactory.Config> {
+
+    private final CompositeClient client;
+    private final ObjectMapper objectMapper;
+
+    public TaskCompositionGatewayFilterFactory(CompositeClient client, ObjectMapper objectMapper) {
+        super(Config.class);
+        this.client = client;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("userTimeout");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            String id = ServerWebExchangeUtils.getUriTemplateVariables(exchange).get("id");
+            Mono<ObjectNode> composed = id != null ? taskWithUser(exchange, id, config) : pageWithUsers(exchange, config);
+            return composed
+                    .flatMap(body -> write(exchange.getResponse(), body))
+                    .onErrorResume(WebClientResponseException.class, e -> relay(exchange.getResponse(), e))
+                    .onErrorMap(WebClientRequestException.class,
+                            e -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "task-service is unavailable", e));
+        };
+    }
+
+    private Mono<ObjectNode> taskWithUser(ServerWebExchange exchange, String id, Config config) {
+        String traceId = traceId(exchange);
+        return timed(exchange, "task", client.task(id, traceId))
+                .flatMap(task -> timed(exchange, "users", users(userIds(List.of(task)), traceId, config))
+                        .map(users -> attach(task, users)));
+    }
+
+    private Mono<ObjectNode> pageWithUsers(ServerWebExchange exchange, Config config) {
+        String traceId = traceId(exchange);
+        ServerHttpRequest request = exchange.getRequest();
+        String afterId = request.getQueryParams().getFirst("afterId");
+        String limit = request.getQueryParams().getFirst("limit");
+        return timed(exchange, "task", client.taskPage(afterId, limit, traceId))
+                .flatMap(page -> {
+                    JsonNode items = page.path("items");
+                    return timed(exchange, "users", users(userIds(items), traceId, config))
+                            .map(users -> {
+                                items.forEach(item -> attach((ObjectNode) item, users));
+                                return page;
+                            });
+                });
+    }
+
+    private Mono<Map<String, JsonNode>> users(Collection<String> userIds, String traceId, Config config) {
+        if (userIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return client.users(userIds, traceId)
+                .filter(user -> user.hasNonNull("id"))
+                .collectMap(user -> user.get("id").asText())
+                .timeout(config.getUserTimeout())
+                .onErrorResume(e -> {
+                    log.warn("Lookup of {} users failed, responding without user data: {}", userIds.size(), e.toString());
+                    return Mono.just(Map.of());
+                });
+    }
+
+    private static Set<String> userIds(Iterable<? extends JsonNode> tasks) {
+        Set<String> userIds = new LinkedHashSet<>();
+        for (JsonNode task : tasks) {
+            if (task.hasNonNull("userId")) {
+                userIds.add(task.get("userId").asText());
+            }
+        }
+        return userIds;
+    }
+
+    private static ObjectNode attach(ObjectNode task, Map<String, JsonNode> users) {
+        JsonNode user = task.hasNonNull("userId") ? users.get(task.get("userId").asText()) : null;
+        return task.set("user", user != null ? user : NullNode.getInstance());
+    }
+
+    private static <T> Mono<T> timed(ServerWebExchange exchange, String phase, Mono<T> source) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return source.doOnTerminate(() -> exchange.getResponse().getHeaders()
+                    .add(ServerTimingFilter.HEADER, ServerTimingFilter.metric(phase, System.nanoTime() - start)));
+        });
+    }
+
+    private static String traceId(ServerWebExchange exchange) {
+        return exchange.getRequest().getHeaders().getFirst(ServerTimingFilter.TRACE_ID_HEADER);
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, JsonNode body) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsBytes(body))
+                .flatMap(bytes -> {
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    response.getHeaders().setContentLength(bytes.length);
+                    return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+                });
+    }
+
+    private static Mono<Void> relay(ServerHttpResponse response, WebClientResponseException e) {
+        byte[] body = e.getResponseBodyAsByteArray();
+        response.setStatusCode(e.getStatusCode());
+        if (e.getHeaders().getContentType() != null) {
+            response.getHeaders().setContentType(e.getHeaders().getContentType());
+        }
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    @Data
+    public static class Config {
+        private Duration userTimeout = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,35 @@
+package com.yakubovskyi.gateway.loadbalancer;
+
+import com.yakubovskyi.common.loadbalancer.LeastOutstandingLoadBalancer;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancerClientRequestTransformer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+@Component
+public class LoadBalancerReleaseTransformer implements LoadBalancerClientRequestTransformer {
+
+    private static final String CHOSEN_INSTANCE_ATTRIBUTE = LoadBalancerReleaseTransformer.class.getName() + ".chosenInstance";
+
+    @Override
+    public ClientRequest transformRequest(ClientRequest request, ServiceInstance instance) {
+        request.attribute(CHOSEN_INSTANCE_ATTRIBUTE)
+                .filter(ChosenInstance.class::isInstance)
+                .map(ChosenInstance.class::cast)
+                .ifPresent(chosen -> chosen.instance = instance);
+        return request;
+    }
+
+    public ExchangeFilterFunction releaseOnFinally() {
+        return (request, next) -> {
+            ChosenInstance chosen = new ChosenInstance();
+            return next.exchange(ClientRequest.from(request).attribute(CHOSEN_INSTANCE_ATTRIBUTE, chosen).build())
+                    .doFinally(signal -> LeastOutstandingLoadBalancer.release(chosen.instance));
+        };
+    }
+
+    private static final class ChosenInstance {
+        private volatile ServiceInstance instance;
+    }
+}
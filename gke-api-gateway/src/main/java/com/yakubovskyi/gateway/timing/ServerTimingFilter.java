@@ -0,0 +1,63 @@
+package com.yakubovskyi.gateway.timing;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ServerTimingFilter implements GlobalFilter, Ordered {
+
+    public static final String HEADER = "Server-Timing";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    static final String UPSTREAM_START_ATTRIBUTE = ServerTimingFilter.class.getName() + ".upstreamStart";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        String traceId = exchange.getRequest().getHeaders().getFirst(TRACE_ID_HEADER);
+        String effectiveTraceId = StringUtils.hasText(traceId) ? traceId : UUID.randomUUID().toString();
+        ServerWebExchange traced = exchange.mutate()
+                .request(request -> request.headers(headers -> headers.set(TRACE_ID_HEADER, effectiveTraceId)))
+                .build();
+        traced.getResponse().beforeCommit(() -> {
+            HttpHeaders headers = traced.getResponse().getHeaders();
+            headers.set(TRACE_ID_HEADER, effectiveTraceId);
+            headers.put(HEADER, List.of(header(traced, start, headers.getOrEmpty(HEADER))));
+            return Mono.empty();
+        });
+        return chain.filter(traced);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private static String header(ServerWebExchange exchange, long start, List<String> upstream) {
+        long now = System.nanoTime();
+        List<String> metrics = new ArrayList<>();
+        metrics.add(metric("total", now - start));
+        Long upstreamStart = exchange.getAttribute(UPSTREAM_START_ATTRIBUTE);
+        if (upstreamStart != null) {
+            metrics.add(metric("route", upstreamStart - start));
+            metrics.add(metric("upstream", now - upstreamStart));
+        }
+        metrics.addAll(upstream);
+        return String.join(", ", metrics);
+    }
+
+    public static String metric(String phase, long nanos) {
+        return String.format(Locale.ROOT, "gateway.%s;dur=%.1f", phase, nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
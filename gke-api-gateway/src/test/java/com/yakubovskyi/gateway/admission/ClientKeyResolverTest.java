@@ -0,0 +1,68 @@
+package com.yakubovskyi.gateway.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.InetSocketAddress;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientKeyResolverTest {
+
+    private final ClientKeyResolver resolver = new ClientKeyResolver(properties(0));
+    private final ClientKeyResolver behindProxies = new ClientKeyResolver(properties(2));
+
+    @Test
+    @DisplayName("Should key on a configured API key")
+    void resolve_KnownApiKey() {
+        assertThat(resolver.resolve(exchange("known-key")).block()).isEqualTo("key:known-key");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the remote address for an unknown API key")
+    void resolve_UnknownApiKeyFallsBackToRemoteAddress() {
+        assertThat(resolver.resolve(exchange("made-up-key")).block()).isEqualTo("ip:10.0.0.7");
+        assertThat(resolver.resolve(exchange(null)).block()).isEqualTo("ip:10.0.0.7");
+    }
+
+    @Test
+    @DisplayName("Should key on the client address appended by the trusted proxies in X-Forwarded-For")
+    void resolve_ForwardedForBehindTrustedProxies() {
+        assertThat(behindProxies.resolve(exchange(null, "198.51.100.4, 203.0.113.9, 35.191.0.1")).block())
+                .isEqualTo("ip:203.0.113.9");
+        assertThat(behindProxies.resolve(exchange(null, "198.51.100.4", "203.0.113.9, 35.191.0.1")).block())
+                .isEqualTo("ip:203.0.113.9");
+        assertThat(behindProxies.resolve(exchange("known-key", "203.0.113.9, 35.191.0.1")).block())
+                .isEqualTo("key:known-key");
+    }
+
+    @Test
+    @DisplayName("Should ignore X-Forwarded-For unless it holds an entry for every trusted proxy")
+    void resolve_UntrustedForwardedFor() {
+        assertThat(resolver.resolve(exchange(null, "203.0.113.9")).block()).isEqualTo("ip:10.0.0.7");
+        assertThat(behindProxies.resolve(exchange(null, "203.0.113.9")).block()).isEqualTo("ip:10.0.0.7");
+        assertThat(behindProxies.resolve(exchange(null)).block()).isEqualTo("ip:10.0.0.7");
+    }
+
+    private static RateLimiterProperties properties(int trustedProxies) {
+        RateLimiterProperties properties = new RateLimiterProperties();
+        properties.setApiKeys(Set.of("known-key"));
+        properties.setTrustedProxies(trustedProxies);
+        return properties;
+    }
+
+    private static MockServerWebExchange exchange(String apiKey, String... forwardedFor) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/tasks")
+                .remoteAddress(new InetSocketAddress("10.0.0.7", 52000));
+        if (apiKey != null) {
+            request.header("X-API-Key", apiKey);
+        }
+        if (forwardedFor.length > 0) {
+            request.header("X-Forwarded-For", forwardedFor);
+        }
+        return MockServerWebExchange.from(request);
+    }
+}
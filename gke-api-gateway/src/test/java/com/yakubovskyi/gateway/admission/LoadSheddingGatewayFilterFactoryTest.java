@@ -0,0 +1,72 @@
+package com.yakubovskyi.gateway.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+class LoadSheddingGatewayFilterFactoryTest {
+
+    private final LoadSheddingGatewayFilterFactory factory = new LoadSheddingGatewayFilterFactory(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("Should shed requests past the in-flight limit with 503 and Retry-After")
+    void filter_ShedsPastLimit() {
+        GatewayFilter filter = factory.apply(config(2, HttpStatus.SERVICE_UNAVAILABLE, Duration.ofSeconds(3)));
+        Sinks.Empty<Void> upstream = Sinks.empty();
+        filter.filter(exchange(), e -> upstream.asMono()).subscribe();
+        filter.filter(exchange(), e -> upstream.asMono()).subscribe();
+
+        MockServerWebExchange shed = exchange();
+        filter.filter(shed, e -> Mono.error(new AssertionError("must not reach upstream"))).block();
+
+        assertThat(shed.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(shed.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+
+        upstream.tryEmitEmpty();
+        MockServerWebExchange admitted = exchange();
+        filter.filter(admitted, e -> Mono.empty()).block();
+
+        assertThat(admitted.getResponse().getStatusCode()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should answer with the configured status, such as 429")
+    void filter_UsesConfiguredStatus() {
+        GatewayFilter filter = factory.apply(config(1, HttpStatus.TOO_MANY_REQUESTS, Duration.ofSeconds(1)));
+        filter.filter(exchange(), e -> Mono.never()).subscribe();
+
+        MockServerWebExchange shed = exchange();
+        filter.filter(shed, e -> Mono.empty()).block();
+
+        assertThat(shed.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(shed.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    private static LoadSheddingGatewayFilterFactory.Config config(int maxInFlight, HttpStatus status, Duration retryAfter) {
+        LoadSheddingGatewayFilterFactory.Config config = new LoadSheddingGatewayFilterFactory.Config();
+        config.setMaxInFlight(maxInFlight);
+        config.setStatus(status);
+        config.setRetryAfter(retryAfter);
+        return config;
+    }
+
+    private static MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/tasks"));
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR,
+                Route.async().id("task-service").uri("http://task-service").predicate(e -> true).build());
+        return exchange;
+    }
+}
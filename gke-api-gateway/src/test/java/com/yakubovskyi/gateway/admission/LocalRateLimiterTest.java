@@ -0,0 +1,82 @@
+package com.yakubovskyi.gateway.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimiterTest {
+
+    private static final String ROUTE_ID = "route";
+
+    private final AtomicLong now = new AtomicLong();
+    private LocalRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new LocalRateLimiter(new ConfigurationService(null, () -> null, () -> null),
+                new RateLimiterProperties(), new SimpleMeterRegistry(), now::get);
+        LocalRateLimiter.Config config = new LocalRateLimiter.Config();
+        config.setReplenishRate(10);
+        config.setBurstCapacity(5);
+        rateLimiter.getConfig().put(ROUTE_ID, config);
+    }
+
+    @Test
+    @DisplayName("Should allow a full burst and then reject with Retry-After")
+    void isAllowed_BurstThenRejected() {
+        assertThat(IntStream.range(0, 5).mapToObj(i -> allowed("client")))
+                .extracting(response -> response.getHeaders().get(LocalRateLimiter.REMAINING_HEADER))
+                .containsExactly("4", "3", "2", "1", "0");
+
+        RateLimiter.Response rejected = allowed("client");
+
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getHeaders())
+                .containsEntry(HttpHeaders.RETRY_AFTER, "1")
+                .containsEntry(LocalRateLimiter.REMAINING_HEADER, "0");
+    }
+
+    @Test
+    @DisplayName("Should refill one token per interval and never beyond the burst capacity")
+    void isAllowed_RefillsAtReplenishRate() {
+        IntStream.range(0, 5).forEach(i -> allowed("client"));
+
+        advance(Duration.ofMillis(99));
+        assertThat(allowed("client").isAllowed()).isFalse();
+
+        advance(Duration.ofMillis(1));
+        assertThat(allowed("client").isAllowed()).isTrue();
+        assertThat(allowed("client").isAllowed()).isFalse();
+
+        advance(Duration.ofSeconds(10));
+        assertThat(IntStream.range(0, 6).mapToObj(i -> allowed("client").isAllowed()))
+                .containsExactly(true, true, true, true, true, false);
+    }
+
+    @Test
+    @DisplayName("Should keep a separate bucket per client")
+    void isAllowed_SeparateBucketPerClient() {
+        IntStream.range(0, 5).forEach(i -> allowed("client-1"));
+
+        assertThat(allowed("client-1").isAllowed()).isFalse();
+        assertThat(allowed("client-2").isAllowed()).isTrue();
+    }
+
+    private RateLimiter.Response allowed(String id) {
+        return rateLimiter.isAllowed(ROUTE_ID, id).block();
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,147 @@
+package com.yakubovskyi.gateway.cache;
+
+import com.yakubovskyi.gateway.support.StubUpstream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "gateway.response-cache.max-entry-size=16KB")
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private static final StubUpstream userService = StubUpstream.start();
+
+    @DynamicPropertySource
+    static void upstreamProps(DynamicPropertyRegistry registry) {
+        registry.add("load-balancer.instances.user-service", userService::url);
+    }
+
+    @Autowired
+    private WebTestClient client;
+
+    private String userPath;
+
+    @BeforeEach
+    void setUp() {
+        userService.reset();
+        userPath = "/api/users/" + UUID.randomUUID();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        userService.close();
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated GET from the cache")
+    void get_MissThenHit() {
+        EntityExchangeResult<String> miss = get(userPath, HttpHeaders.EMPTY);
+        EntityExchangeResult<String> hit = get(userPath, HttpHeaders.EMPTY);
+
+        assertThat(miss.getResponseHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(hit.getResponseHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(hit.getResponseBody()).isEqualTo(miss.getResponseBody());
+        assertThat(userService.requests()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should bypass the cache for Cache-Control: no-cache")
+    void get_NoCacheBypassesCache() {
+        get(userPath, HttpHeaders.EMPTY);
+
+        HttpHeaders noCache = new HttpHeaders();
+        noCache.setCacheControl("no-cache");
+        EntityExchangeResult<String> result = get(userPath, noCache);
+
+        assertThat(result.getResponseHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(userService.requests()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 from the cache when If-None-Match matches the ETag")
+    void get_IfNoneMatchReturnsNotModified() {
+        String etag = get(userPath, HttpHeaders.EMPTY).getResponseHeaders().getETag();
+
+        client.get().uri(userPath)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("X-Cache", "HIT")
+                .expectBody().isEmpty();
+
+        assertThat(etag).isNotBlank();
+        assertThat(userService.requests()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache responses larger than the entry size cap")
+    void get_OversizedResponseIsNotCached() {
+        userService.setResponseBody("\"" + "x".repeat(20 * 1024) + "\"");
+
+        get(userPath, HttpHeaders.EMPTY);
+        EntityExchangeResult<String> second = get(userPath, HttpHeaders.EMPTY);
+
+        assertThat(second.getResponseHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(second.getResponseBody()).hasSize(20 * 1024 + 2);
+        assertThat(userService.requests()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should evict the resource and its collection after a successful write")
+    void write_InvalidatesResourceAndCollection() {
+        get(userPath, HttpHeaders.EMPTY);
+        get("/api/users", HttpHeaders.EMPTY);
+
+        client.put().uri(userPath)
+                .bodyValue("{\"name\":\"Updated\"}")
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .exchange()
+                .expectStatus().isOk();
+
+        assertThat(get(userPath, HttpHeaders.EMPTY).getResponseHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(get("/api/users", HttpHeaders.EMPTY).getResponseHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(userService.requests()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("Should evict the list and every cached user after a bulk import")
+    void bulkWrite_PurgesUserPrefix() {
+        String otherPath = "/api/users/" + UUID.randomUUID();
+        get(userPath, HttpHeaders.EMPTY);
+        get(otherPath, HttpHeaders.EMPTY);
+        get("/api/users", HttpHeaders.EMPTY);
+        userService.reset();
+
+        client.post().uri("/api/users/bulk")
+                .bodyValue("[{\"name\":\"Imported\",\"email\":\"imported@example.com\"}]")
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .exchange()
+                .expectStatus().isOk();
+
+        assertThat(get(userPath, HttpHeaders.EMPTY).getResponseHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(get(otherPath, HttpHeaders.EMPTY).getResponseHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(get("/api/users", HttpHeaders.EMPTY).getResponseHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(userService.requests()).hasSize(4);
+    }
+
+    private EntityExchangeResult<String> get(String path, HttpHeaders headers) {
+        return client.get().uri(path)
+                .headers(h -> h.addAll(headers))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult();
+    }
+}
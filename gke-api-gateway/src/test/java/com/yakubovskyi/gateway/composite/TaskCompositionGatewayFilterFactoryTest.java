@@ -0,0 +1,77 @@
+package com.yakubovskyi.gateway.composite;
+
+import com.yakubovskyi.gateway.support.StubUpstream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TaskCompositionGatewayFilterFactoryTest {
+
+    private static final StubUpstream taskService = StubUpstream.start();
+    private static final StubUpstream userService = StubUpstream.start();
+
+    @DynamicPropertySource
+    static void upstreamProps(DynamicPropertyRegistry registry) {
+        registry.add("load-balancer.instances.task-service", taskService::url);
+        registry.add("load-balancer.instances.user-service", userService::url);
+    }
+
+    @Autowired
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        taskService.reset();
+        userService.reset();
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        taskService.close();
+        userService.close();
+    }
+
+    @Test
+    @DisplayName("Should look up the distinct users of a page in one batch call")
+    void taskPage_LooksUpUsersInOneCall() {
+        taskService.setResponseBody("{\"items\":[{\"id\":1,\"userId\":\"user-1\"},{\"id\":2,\"userId\":\"user-2\"},"
+                + "{\"id\":3,\"userId\":\"user-1\"},{\"id\":4}],\"nextAfterId\":4}");
+        userService.setResponseBody("[{\"id\":\"user-1\",\"name\":\"First\"}]");
+
+        client.get().uri("/api/composite/tasks?limit=4")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items[0].user.name").isEqualTo("First")
+                .jsonPath("$.items[1].user").isEmpty()
+                .jsonPath("$.items[2].user.name").isEqualTo("First")
+                .jsonPath("$.items[3].user").isEmpty()
+                .jsonPath("$.nextAfterId").isEqualTo(4);
+
+        assertThat(userService.requests()).containsExactly("POST /api/v1/user/lookup");
+        assertThat(userService.lastRequestBody()).isEqualTo("[\"user-1\",\"user-2\"]");
+    }
+
+    @Test
+    @DisplayName("Should skip the user lookup when no task on the page has a user")
+    void taskPageWithoutUsers_SkipsLookup() {
+        taskService.setResponseBody("{\"items\":[{\"id\":1}]}");
+
+        client.get().uri("/api/composite/tasks")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items[0].user").isEmpty();
+
+        assertThat(userService.requests()).isEmpty();
+    }
+}
@@ -0,0 +1,118 @@
+package com.yakubovskyi.gateway.loadbalancer;
+
+import com.yakubovskyi.common.loadbalancer.LeastOutstandingLoadBalancer;
+import com.yakubovskyi.gateway.support.StubUpstream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "COMPOSITE_USER_TIMEOUT=200ms")
+class LoadBalancerReleaseTest {
+
+    private static final StubUpstream taskService = StubUpstream.start();
+    private static final StubUpstream userService = StubUpstream.start();
+
+    @DynamicPropertySource
+    static void upstreamProps(DynamicPropertyRegistry registry) {
+        registry.add("load-balancer.instances.task-service", taskService::url);
+        registry.add("load-balancer.instances.user-service", userService::url);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private LoadBalancerClientFactory loadBalancers;
+
+    @BeforeEach
+    void setUp() {
+        taskService.reset();
+        userService.reset();
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        taskService.close();
+        userService.close();
+    }
+
+    @Test
+    @DisplayName("Should release the outstanding count when the client cancels a proxied request")
+    void cancelledRequest_ReleasesOutstanding() {
+        taskService.setLatency(Duration.ofSeconds(5));
+
+        Disposable request = WebClient.create("http://localhost:" + port).get().uri("/api/tasks/1")
+                .retrieve()
+                .bodyToMono(String.class)
+                .subscribe();
+        await().atMost(Duration.ofSeconds(5)).until(() -> taskService.requests().size() == 1);
+        assertThat(outstanding("task-service", taskService)).isEqualTo(1);
+
+        request.dispose();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> outstanding("task-service", taskService) == 0);
+    }
+
+    @Test
+    @DisplayName("Should not hold an outstanding slot for an open event stream or release it twice on disconnect")
+    void disconnectedEventStream_KeepsOutstandingAtZero() {
+        AtomicInteger events = new AtomicInteger();
+        Disposable stream = WebClient.create("http://localhost:" + port).get().uri("/api/tasks/1/events")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(String.class)
+                .subscribe(event -> events.incrementAndGet());
+        await().atMost(Duration.ofSeconds(5)).until(() -> events.get() >= 2);
+        assertThat(taskService.requests()).containsExactly("GET /api/v1/task/1/events");
+        assertThat(outstanding("task-service", taskService)).isZero();
+
+        stream.dispose();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> taskService.openStreams() == 0);
+        client.get().uri("/api/tasks/1").exchange().expectStatus().isOk();
+        assertThat(outstanding("task-service", taskService)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should release the outstanding count when a composite user lookup times out")
+    void timedOutCompositeLookup_ReleasesOutstanding() {
+        taskService.setResponseBody("{\"id\":1,\"userId\":\"user-1\"}");
+        userService.setLatency(Duration.ofSeconds(5));
+
+        client.get().uri("/api/composite/tasks/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.user").isEmpty();
+
+        assertThat(userService.requests()).hasSize(1);
+        await().atMost(Duration.ofSeconds(5)).until(() -> outstanding("user-service", userService) == 0);
+        assertThat(outstanding("task-service", taskService)).isZero();
+    }
+
+    private int outstanding(String serviceId, StubUpstream upstream) {
+        LeastOutstandingLoadBalancer loadBalancer = (LeastOutstandingLoadBalancer) loadBalancers.getInstance(serviceId);
+        return loadBalancer.outstanding(serviceId + "@" + upstream.url().substring("http://".length()));
+    }
+}
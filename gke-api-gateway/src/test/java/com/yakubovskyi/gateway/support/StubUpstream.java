@@ -0,0 +1,142 @@
+package com.yakubovskyi.gateway.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StubUpstream implements AutoCloseable {
+
+    private final HttpServer server;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final Map<String, String> responseHeaders = new ConcurrentHashMap<>();
+    private final AtomicInteger openStreams = new AtomicInteger();
+    private volatile Map<String, String> lastRequestHeaders = Map.of();
+    private volatile String lastRequestBody;
+    private volatile Duration latency = Duration.ZERO;
+    private volatile int responseStatus = 200;
+    private volatile String responseBody;
+
+    private StubUpstream(HttpServer server) {
+        this.server = server;
+    }
+
+    public static StubUpstream start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+            StubUpstream stub = new StubUpstream(server);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/", stub::handle);
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    public void setResponseStatus(int responseStatus) {
+        this.responseStatus = responseStatus;
+    }
+
+    public void setResponseBody(String responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    public void setResponseHeader(String name, String value) {
+        responseHeaders.put(name, value);
+    }
+
+    public List<String> requests() {
+        return List.copyOf(requests);
+    }
+
+    public int openStreams() {
+        return openStreams.get();
+    }
+
+    public String lastRequestHeader(String name) {
+        return lastRequestHeaders.get(name.toLowerCase());
+    }
+
+    public String lastRequestBody() {
+        return lastRequestBody;
+    }
+
+    public void reset() {
+        requests.clear();
+        responseHeaders.clear();
+        lastRequestHeaders = Map.of();
+        lastRequestBody = null;
+        latency = Duration.ZERO;
+        responseStatus = 200;
+        responseBody = null;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String request = exchange.getRequestMethod() + " " + exchange.getRequestURI();
+        requests.add(request);
+        Map<String, String> headers = new ConcurrentHashMap<>();
+        exchange.getRequestHeaders().forEach((name, values) -> headers.put(name.toLowerCase(), String.join(",", values)));
+        lastRequestHeaders = headers;
+        lastRequestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (exchange.getRequestURI().getPath().endsWith("/events")) {
+            stream(exchange);
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String content = responseBody != null
+                ? responseBody
+                : "{\"request\":\"" + request + "\",\"count\":" + requests.size() + "}";
+        byte[] body = content.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        responseHeaders.forEach(exchange.getResponseHeaders()::add);
+        exchange.sendResponseHeaders(responseStatus, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void stream(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(responseStatus, 0);
+        openStreams.incrementAndGet();
+        try (OutputStream out = exchange.getResponseBody()) {
+            while (!Thread.currentThread().isInterrupted()) {
+                out.write("data: {}\n\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                Thread.sleep(50);
+            }
+        } catch (IOException | InterruptedException clientGone) {
+            exchange.close();
+        } finally {
+            openStreams.decrementAndGet();
+        }
+    }
+}
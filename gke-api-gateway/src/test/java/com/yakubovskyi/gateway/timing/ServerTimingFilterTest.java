@@ -0,0 +1,71 @@
+package com.yakubovskyi.gateway.timing;
+
+import com.yakubovskyi.gateway.support.StubUpstream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ServerTimingFilterTest {
+
+    private static final String TRACE_ID = "trace-123";
+    private static final String TASK_TIMING = "task.app;dur=4.2, task.db;dur=3.1";
+
+    private static final StubUpstream taskService = StubUpstream.start();
+
+    @DynamicPropertySource
+    static void upstreamProps(DynamicPropertyRegistry registry) {
+        registry.add("load-balancer.instances.task-service", taskService::url);
+    }
+
+    @Autowired
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        taskService.reset();
+        taskService.setResponseHeader("Server-Timing", TASK_TIMING);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        taskService.close();
+    }
+
+    @Test
+    @DisplayName("Should break down proxied latency into route and upstream phases followed by upstream timings")
+    void proxiedRequest_ReportsServerTiming() {
+        String serverTiming = client.get().uri("/api/tasks/1")
+                .header("X-Trace-Id", TRACE_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Trace-Id", TRACE_ID)
+                .returnResult(String.class)
+                .getResponseHeaders().getFirst("Server-Timing");
+
+        assertThat(serverTiming).matches("gateway\\.total;dur=\\d+\\.\\d, gateway\\.route;dur=\\d+\\.\\d, "
+                + "gateway\\.upstream;dur=\\d+\\.\\d, " + TASK_TIMING);
+        assertThat(taskService.lastRequestHeader("X-Trace-Id")).isEqualTo(TRACE_ID);
+    }
+
+    @Test
+    @DisplayName("Should generate a trace id and pass it upstream when the client sends none")
+    void requestWithoutTraceId_GeneratesOne() {
+        String traceId = client.get().uri("/api/tasks/1")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders().getFirst("X-Trace-Id");
+
+        assertThat(traceId).isNotBlank();
+        assertThat(taskService.lastRequestHeader("X-Trace-Id")).isEqualTo(traceId);
+    }
+}
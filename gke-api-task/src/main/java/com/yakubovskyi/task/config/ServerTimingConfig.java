@@ -0,0 +1,40 @@
+package com.yakubovskyi.task.config;
+
+import com.yakubovskyi.common.timing.ServerTiming;
+import feign.RequestInterceptor;
+import feign.ResponseInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.List;
+
+@Configuration
+public class ServerTimingConfig {
+
+    @Bean
+    public TaskDecorator serverTimingTaskDecorator() {
+        return ServerTiming::propagate;
+    }
+
+    @Bean
+    public RequestInterceptor traceIdRequestInterceptor() {
+        return template -> {
+            ServerTiming timing = ServerTiming.current();
+            if (timing != null && timing.traceId() != null) {
+                template.header(ServerTiming.TRACE_ID_HEADER, timing.traceId());
+            }
+        };
+    }
+
+    @Bean
+    public ResponseInterceptor serverTimingResponseInterceptor() {
+        return (context, chain) -> {
+            ServerTiming timing = ServerTiming.current();
+            if (timing != null) {
+                timing.merge(context.response().headers().getOrDefault(ServerTiming.HEADER, List.of()));
+            }
+            return chain.next(context);
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.yakubovskyi.task.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "task-events")
+public class TaskEventProperties {
+    private int bufferSize = 256;
+    private int replaySize = 10_000;
+    private Duration heartbeat = Duration.ofSeconds(15);
+    private Duration timeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,14 @@
+package com.yakubovskyi.task.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "user-service.cache")
+public class UserCacheProperties {
+    private long maxSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(10);
+    private Duration refreshAfter = Duration.ofMinutes(1);
+}
@@ -0,0 +1,48 @@
+package com.yakubovskyi.task.config;
+
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class UserClientResilienceConfig {
+
+    private static final String USER_SERVICE = "user-service";
+
+    @Bean
+    public CircuitBreaker userServiceCircuitBreaker(UserClientResilienceProperties properties, MeterRegistry meterRegistry) {
+        UserClientResilienceProperties.CircuitBreaker config = properties.getCircuitBreaker();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(config.getFailureRateThreshold())
+                .slowCallRateThreshold(config.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(config.getSlowCallDurationThreshold())
+                .slidingWindowSize(config.getSlidingWindowSize())
+                .minimumNumberOfCalls(config.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(config.getWaitDurationInOpenState())
+                .ignoreExceptions(FeignException.NotFound.class)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker(USER_SERVICE);
+    }
+
+    @Bean
+    public Bulkhead userServiceBulkhead(UserClientResilienceProperties properties, MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry.bulkhead(USER_SERVICE);
+    }
+}
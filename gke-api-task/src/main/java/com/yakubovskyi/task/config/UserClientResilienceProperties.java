@@ -0,0 +1,33 @@
+package com.yakubovskyi.task.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "user-service.resilience")
+public class UserClientResilienceProperties {
+    private Duration timeout = Duration.ofSeconds(2);
+    private int maxConcurrentCalls = 50;
+    private boolean degradedMode = true;
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Hedging hedging = new Hedging();
+
+    @Data
+    public static class CircuitBreaker {
+        private float failureRateThreshold = 50;
+        private float slowCallRateThreshold = 50;
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(1);
+        private int slidingWindowSize = 50;
+        private int minimumNumberOfCalls = 20;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Hedging {
+        private boolean enabled = false;
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(20);
+    }
+}
@@ -0,0 +1,14 @@
+package com.yakubovskyi.task.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "user-snapshot")
+public class UserSnapshotProperties {
+    private boolean enabled = true;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private int batchSize = 500;
+}
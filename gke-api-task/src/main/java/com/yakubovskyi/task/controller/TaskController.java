@@ -1,13 +1,27 @@
 package com.yakubovskyi.task.controller;
 
 import com.yakubovskyi.task.config.RestApis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.yakubovskyi.task.dto.BulkUpdateTaskStatusRequestDto;
+import com.yakubovskyi.task.dto.BulkUpdateTaskStatusResponseDto;
 import com.yakubovskyi.task.dto.CreateTaskRequestDto;
+import com.yakubovskyi.task.dto.PageResponseDto;
 import com.yakubovskyi.task.dto.TaskResponseDto;
+import com.yakubovskyi.task.dto.TaskStatusSummaryResponseDto;
 import com.yakubovskyi.task.dto.TaskWithUserResponseDto;
 import com.yakubovskyi.task.dto.UpdateTaskStatusRequestDto;
+import com.yakubovskyi.task.entity.TaskStatus;
+import com.yakubovskyi.task.event.TaskEventBus;
 import com.yakubovskyi.task.service.TaskService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,30 +30,108 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @RestController
 @RequestMapping(RestApis.TASK)
 @RequiredArgsConstructor
 public class TaskController {
 
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+    private static final Pattern STRONG_VERSION_ETAG = Pattern.compile("\"(\\d{1,18})\"");
+
     private final TaskService taskService;
+    private final TaskEventBus taskEventBus;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<TaskResponseDto> createTask(@RequestBody CreateTaskRequestDto request) {
         return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTask(request));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskResponseDto>> createTasks(@RequestBody List<CreateTaskRequestDto> requests) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTasks(requests));
+    }
+
     @GetMapping
     public ResponseEntity<List<TaskResponseDto>> getAllTasks() {
         return ResponseEntity.ok(taskService.getAllTasks());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<PageResponseDto<TaskResponseDto>> getTasksPage(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(taskService.getTasksPage(afterId, limit));
+    }
+
+    @GetMapping("/with-user")
+    public ResponseEntity<PageResponseDto<TaskWithUserResponseDto>> getTasksWithUserPage(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(taskService.getTasksWithUserPage(afterId, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PagedModel<TaskResponseDto>> searchTasks(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            @RequestParam(required = false) String titlePrefix,
+            @PageableDefault(size = 100, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(new PagedModel<>(taskService.searchTasks(userId, status, titlePrefix, pageable)));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<TaskStatusSummaryResponseDto> getStatusSummary(
+            @RequestParam(defaultValue = "false") boolean recount) {
+        return ResponseEntity.ok(taskService.getStatusSummary(recount));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportTasks(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (SequenceWriter writer = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .writeValues(response.getOutputStream())) {
+            taskService.streamAllTasks(task -> {
+                try {
+                    writer.write(task);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(eTag(taskService.getTaskVersion(id)))) {
+            return null;
+        }
+        TaskResponseDto task = taskService.getTaskById(id);
+        return ResponseEntity.ok().eTag(eTag(task.getVersion())).body(task);
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents(
+            @PathVariable Long id,
+            @RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId) {
+        return taskEventBus.subscribe(event -> id.equals(event.getTaskId()), lastEventId);
     }
 
     @GetMapping("/{id}/with-user")
@@ -47,14 +139,49 @@ public class TaskController {
         return ResponseEntity.ok(taskService.getTaskWithUser(id));
     }
 
+    @GetMapping(value = "/{id}/with-user", params = "userId")
+    public CompletableFuture<ResponseEntity<TaskWithUserResponseDto>> getTaskWithKnownUser(
+            @PathVariable Long id,
+            @RequestParam String userId) {
+        return taskService.getTaskWithUserAsync(id, userId).thenApply(ResponseEntity::ok);
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<TaskResponseDto>> getTasksByUserId(@PathVariable String userId) {
         return ResponseEntity.ok(taskService.getTasksByUserId(userId));
     }
 
+    @GetMapping(value = "/user/{userId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamUserEvents(
+            @PathVariable String userId,
+            @RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId) {
+        return taskEventBus.subscribe(event -> userId.equals(event.getUserId()), lastEventId);
+    }
+
+    @GetMapping("/user/{userId}/with-user")
+    public ResponseEntity<List<TaskWithUserResponseDto>> getTasksWithUserByUserId(@PathVariable String userId) {
+        return ResponseEntity.ok(taskService.getTasksWithUserByUserId(userId));
+    }
+
+    @GetMapping("/user/{userId}/summary")
+    public ResponseEntity<TaskStatusSummaryResponseDto> getStatusSummaryByUserId(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "false") boolean recount) {
+        return ResponseEntity.ok(taskService.getStatusSummaryByUserId(userId, recount));
+    }
+
     @PatchMapping("/{id}/status")
-    public ResponseEntity<TaskResponseDto> updateTaskStatus(@PathVariable Long id, @RequestBody UpdateTaskStatusRequestDto request) {
-        return ResponseEntity.ok(taskService.updateTaskStatus(id, request));
+    public ResponseEntity<TaskResponseDto> updateTaskStatus(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateTaskStatusRequestDto request) {
+        TaskResponseDto task = taskService.updateTaskStatus(id, request, ifMatchVersions(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(task.getVersion())).body(task);
+    }
+
+    @PatchMapping("/status")
+    public ResponseEntity<BulkUpdateTaskStatusResponseDto> updateTasksStatus(@RequestBody BulkUpdateTaskStatusRequestDto request) {
+        return ResponseEntity.ok(taskService.updateTasksStatus(request));
     }
 
     @DeleteMapping("/{id}")
@@ -62,4 +189,26 @@ public class TaskController {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    private static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    private static Set<Long> ifMatchVersions(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*")) {
+                return null;
+            }
+            Matcher matcher = STRONG_VERSION_ETAG.matcher(trimmed);
+            if (matcher.matches()) {
+                versions.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return versions;
+    }
 }
@@ -0,0 +1,20 @@
+package com.yakubovskyi.task.dto;
+
+import com.yakubovskyi.task.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateTaskStatusRequestDto {
+    private List<Long> ids;
+    private String userId;
+    private TaskStatus fromStatus;
+    private TaskStatus status;
+}
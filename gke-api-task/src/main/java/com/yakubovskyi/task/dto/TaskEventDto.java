@@ -0,0 +1,21 @@
+package com.yakubovskyi.task.dto;
+
+import com.yakubovskyi.task.entity.TaskStatus;
+import com.yakubovskyi.task.event.TaskEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEventDto {
+    private TaskEventType type;
+    private Long taskId;
+    private String userId;
+    private TaskStatus status;
+    private TaskStatus previousStatus;
+    private Long version;
+}
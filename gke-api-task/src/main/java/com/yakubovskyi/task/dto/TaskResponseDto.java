@@ -15,4 +15,5 @@ public class TaskResponseDto {
     private String userId;
     private String title;
     private TaskStatus status;
+    private Long version;
 }
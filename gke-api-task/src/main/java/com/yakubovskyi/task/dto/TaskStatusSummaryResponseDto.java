@@ -0,0 +1,19 @@
+package com.yakubovskyi.task.dto;
+
+import com.yakubovskyi.task.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusSummaryResponseDto {
+    private String userId;
+    private Map<TaskStatus, Long> counts;
+    private long total;
+}
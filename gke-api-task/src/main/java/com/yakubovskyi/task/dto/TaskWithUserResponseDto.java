@@ -15,5 +15,6 @@ public class TaskWithUserResponseDto {
     private String userId;
     private String title;
     private TaskStatus status;
+    private Long version;
     private UserResponseDto user;
 }
@@ -0,0 +1,20 @@
+package com.yakubovskyi.task.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeDto {
+    private Long sequence;
+    private UserChangeType type;
+    private String userId;
+    private String name;
+    private Instant occurredAt;
+}
@@ -0,0 +1,6 @@
+package com.yakubovskyi.task.dto;
+
+public enum UserChangeType {
+    UPSERTED,
+    DELETED
+}
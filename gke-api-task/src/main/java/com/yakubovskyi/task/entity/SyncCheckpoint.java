@@ -0,0 +1,25 @@
+package com.yakubovskyi.task.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "sync_checkpoints")
+public class SyncCheckpoint {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private long position;
+}
@@ -0,0 +1,45 @@
+package com.yakubovskyi.task.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_status_counters")
+@IdClass(TaskStatusCounter.Key.class)
+public class TaskStatusCounter {
+
+    @Id
+    @Column(nullable = false)
+    private String userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Column(nullable = false)
+    private long taskCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable, Comparable<Key> {
+        private String userId;
+        private TaskStatus status;
+
+        @Override
+        public int compareTo(Key other) {
+            int byUser = userId.compareTo(other.userId);
+            return byUser != 0 ? byUser : status.compareTo(other.status);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.yakubovskyi.task.event;
+
+import com.yakubovskyi.task.config.TaskEventProperties;
+import com.yakubovskyi.task.dto.TaskEventDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+@Component
+public class TaskEventBus implements DisposableBean {
+
+    private final TaskEventProperties properties;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<TaskEventSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<TaskEvent> recent = new ArrayDeque<>();
+    private final Counter dropped;
+    private long lastId;
+
+    public TaskEventBus(TaskEventProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.dropped = Counter.builder("task.events.subscribers.dropped").register(meterRegistry);
+        Gauge.builder("task.events.subscribers", subscribers, Set::size).register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(TaskEventDto payload) {
+        synchronized (recent) {
+            TaskEvent event = new TaskEvent(++lastId, payload);
+            recent.addLast(event);
+            if (recent.size() > properties.getReplaySize()) {
+                recent.removeFirst();
+            }
+            for (TaskEventSubscriber subscriber : subscribers) {
+                if (!subscriber.offer(event)) {
+                    subscribers.remove(subscriber);
+                    dropped.increment();
+                }
+            }
+        }
+    }
+
+    public SseEmitter subscribe(Predicate<TaskEventDto> filter, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        TaskEventSubscriber subscriber = new TaskEventSubscriber(emitter, filter, properties);
+        List<TaskEvent> replay;
+        Long resyncId = null;
+        synchronized (recent) {
+            if (lastEventId != null && (lastEventId > lastId || oldestId() > lastEventId + 1)) {
+                resyncId = lastId;
+                replay = List.of();
+            } else {
+                long after = lastEventId != null ? lastEventId : lastId;
+                replay = recent.stream()
+                        .filter(event -> event.id() > after && filter.test(event.payload()))
+                        .toList();
+            }
+            subscribers.add(subscriber);
+        }
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+        Long resync = resyncId;
+        senders.execute(() -> subscriber.run(resync, replay));
+        return emitter;
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(TaskEventSubscriber::complete);
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    private long oldestId() {
+        return recent.isEmpty() ? lastId + 1 : recent.peekFirst().id();
+    }
+
+    private void close(TaskEventSubscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.close();
+    }
+
+    record TaskEvent(long id, TaskEventDto payload) {
+    }
+}
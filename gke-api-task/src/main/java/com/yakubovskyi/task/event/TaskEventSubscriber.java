@@ -0,0 +1,89 @@
+package com.yakubovskyi.task.event;
+
+import com.yakubovskyi.task.config.TaskEventProperties;
+import com.yakubovskyi.task.dto.TaskEventDto;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+class TaskEventSubscriber {
+
+    private final SseEmitter emitter;
+    private final Predicate<TaskEventDto> filter;
+    private final BlockingQueue<TaskEventBus.TaskEvent> queue;
+    private final long heartbeatMillis;
+    private volatile boolean overflowed;
+    private volatile boolean closed;
+    private volatile Thread sender;
+
+    TaskEventSubscriber(SseEmitter emitter, Predicate<TaskEventDto> filter, TaskEventProperties properties) {
+        this.emitter = emitter;
+        this.filter = filter;
+        this.queue = new ArrayBlockingQueue<>(properties.getBufferSize());
+        this.heartbeatMillis = properties.getHeartbeat().toMillis();
+    }
+
+    boolean offer(TaskEventBus.TaskEvent event) {
+        if (!filter.test(event.payload()) || queue.offer(event)) {
+            return true;
+        }
+        overflowed = true;
+        return false;
+    }
+
+    void run(Long resyncId, List<TaskEventBus.TaskEvent> replay) {
+        sender = Thread.currentThread();
+        try {
+            emitter.send(SseEmitter.event().comment("subscribed"));
+            if (resyncId != null) {
+                send(new TaskEventBus.TaskEvent(resyncId, TaskEventDto.builder().type(TaskEventType.RESYNC).build()));
+            }
+            for (TaskEventBus.TaskEvent event : replay) {
+                send(event);
+            }
+            while (!closed) {
+                TaskEventBus.TaskEvent event = overflowed
+                        ? queue.poll()
+                        : queue.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    send(event);
+                } else if (overflowed) {
+                    emitter.complete();
+                    return;
+                } else {
+                    emitter.send(SseEmitter.event().comment("keepalive"));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            closed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void close() {
+        closed = true;
+        Thread thread = sender;
+        if (thread != null && thread != Thread.currentThread()) {
+            thread.interrupt();
+        }
+    }
+
+    void complete() {
+        close();
+        emitter.complete();
+    }
+
+    private void send(TaskEventBus.TaskEvent event) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(event.id()))
+                .name(event.payload().getType().name())
+                .data(event.payload(), MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,8 @@
+package com.yakubovskyi.task.event;
+
+public enum TaskEventType {
+    CREATED,
+    STATUS_CHANGED,
+    DELETED,
+    RESYNC
+}
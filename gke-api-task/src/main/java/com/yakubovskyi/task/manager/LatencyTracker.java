@@ -0,0 +1,32 @@
+package com.yakubovskyi.task.manager;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class LatencyTracker {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+
+    LatencyTracker(int windowSize) {
+        this.samples = new AtomicLongArray(windowSize);
+    }
+
+    void record(long nanos) {
+        samples.set((int) (recorded.getAndIncrement() % samples.length()), nanos);
+    }
+
+    long percentileNanos(double percentile, long fallbackNanos) {
+        int size = (int) Math.min(recorded.get(), samples.length());
+        if (size == 0) {
+            return fallbackNanos;
+        }
+        long[] window = new long[size];
+        for (int i = 0; i < size; i++) {
+            window[i] = samples.get(i);
+        }
+        Arrays.sort(window);
+        return window[(int) Math.min(size - 1, Math.ceil(percentile * size) - 1)];
+    }
+}
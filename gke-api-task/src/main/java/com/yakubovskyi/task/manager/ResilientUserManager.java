@@ -0,0 +1,137 @@
+package com.yakubovskyi.task.manager;
+
+import com.yakubovskyi.common.timing.ServerTiming;
+import com.yakubovskyi.task.config.UserClientResilienceProperties;
+import com.yakubovskyi.task.dto.UserResponseDto;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+@Component
+public class ResilientUserManager {
+
+    private static final int LATENCY_WINDOW = 256;
+
+    private final UserManager userManager;
+    private final UserClientResilienceProperties properties;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final LatencyTracker latencyTracker = new LatencyTracker(LATENCY_WINDOW);
+    private final ExecutorService callExecutor;
+
+    public ResilientUserManager(UserManager userManager,
+                                UserClientResilienceProperties properties,
+                                CircuitBreaker userServiceCircuitBreaker,
+                                Bulkhead userServiceBulkhead,
+                                Environment environment) {
+        this.userManager = userManager;
+        this.properties = properties;
+        this.circuitBreaker = userServiceCircuitBreaker;
+        this.bulkhead = userServiceBulkhead;
+        this.callExecutor = Threading.VIRTUAL.isActive(environment)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newCachedThreadPool();
+    }
+
+    public CompletableFuture<UserResponseDto> getUserById(String id) {
+        return call(() -> userManager.getUserById(id));
+    }
+
+    public CompletableFuture<List<UserResponseDto>> getUsersByIds(Collection<String> ids) {
+        return call(() -> userManager.getUsersByIds(ids));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        callExecutor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> call(Supplier<T> remoteCall) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+        }
+        ServerTiming timing = ServerTiming.current();
+        long start = System.nanoTime();
+        return hedged(ServerTiming.propagate(remoteCall))
+                .orTimeout(properties.getTimeout().toNanos(), TimeUnit.NANOSECONDS)
+                .whenComplete((value, error) -> {
+                    long duration = System.nanoTime() - start;
+                    if (timing != null) {
+                        timing.add(ServerTiming.USER, duration);
+                    }
+                    if (error == null) {
+                        circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+                    } else {
+                        circuitBreaker.onError(duration, TimeUnit.NANOSECONDS, unwrap(error));
+                    }
+                });
+    }
+
+    private <T> CompletableFuture<T> hedged(Supplier<T> remoteCall) {
+        UserClientResilienceProperties.Hedging hedging = properties.getHedging();
+        if (!hedging.isEnabled()) {
+            return attempt(remoteCall);
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        BiConsumer<T, Throwable> onAttempt = (value, error) -> {
+            if (error == null) {
+                result.complete(value);
+            } else if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(unwrap(error));
+            }
+        };
+        attempt(remoteCall).whenComplete(onAttempt);
+
+        long minDelay = hedging.getMinDelay().toNanos();
+        long delay = Math.max(minDelay, latencyTracker.percentileNanos(hedging.getPercentile(), minDelay));
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(() -> {
+            if (!result.isDone()) {
+                pending.incrementAndGet();
+                attempt(remoteCall).whenComplete(onAttempt);
+            }
+        });
+        return result;
+    }
+
+    private <T> CompletableFuture<T> attempt(Supplier<T> remoteCall) {
+        if (!bulkhead.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(BulkheadFullException.createBulkheadFullException(bulkhead));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long start = System.nanoTime();
+                try {
+                    T value = remoteCall.get();
+                    latencyTracker.record(System.nanoTime() - start);
+                    return value;
+                } finally {
+                    bulkhead.onComplete();
+                }
+            }, callExecutor);
+        } catch (RuntimeException e) {
+            bulkhead.onComplete();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
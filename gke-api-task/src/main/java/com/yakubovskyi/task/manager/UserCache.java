@@ -0,0 +1,74 @@
+package com.yakubovskyi.task.manager;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yakubovskyi.task.config.UserCacheProperties;
+import com.yakubovskyi.task.dto.UserResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class UserCache {
+
+    private final AsyncLoadingCache<String, UserResponseDto> cache;
+
+    public UserCache(ResilientUserManager userManager, UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .refreshAfterWrite(properties.getRefreshAfter())
+                .recordStats()
+                .buildAsync(new AsyncCacheLoader<>() {
+                    @Override
+                    public CompletableFuture<UserResponseDto> asyncLoad(String id, Executor executor) {
+                        return userManager.getUserById(id);
+                    }
+
+                    @Override
+                    public CompletableFuture<Map<String, UserResponseDto>> asyncLoadAll(
+                            Set<? extends String> ids, Executor executor) {
+                        return userManager.getUsersByIds(Set.copyOf(ids)).thenApply(users -> users.stream()
+                                .collect(Collectors.toMap(UserResponseDto::getId, Function.identity())));
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    public UserResponseDto getUserById(String id) {
+        return join(getUserByIdAsync(id));
+    }
+
+    public CompletableFuture<UserResponseDto> getUserByIdAsync(String id) {
+        return cache.get(id);
+    }
+
+    public Map<String, UserResponseDto> getUsersByIds(Collection<String> ids) {
+        return join(cache.getAll(ids));
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
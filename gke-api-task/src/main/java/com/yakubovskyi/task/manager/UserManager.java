@@ -1,13 +1,27 @@
 package com.yakubovskyi.task.manager;
 
+import com.yakubovskyi.task.dto.PageResponseDto;
+import com.yakubovskyi.task.dto.UserChangeDto;
 import com.yakubovskyi.task.dto.UserResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "user-service", url = "${user-service.url}")
+import java.util.Collection;
+import java.util.List;
+
+@FeignClient(name = "user-service", url = "${user-service.url:}")
 public interface UserManager {
 
     @GetMapping("/api/v1/user/{id}")
     UserResponseDto getUserById(@PathVariable("id") String id);
+
+    @PostMapping("/api/v1/user/lookup")
+    List<UserResponseDto> getUsersByIds(@RequestBody Collection<String> ids);
+
+    @GetMapping("/api/v1/user-changes")
+    PageResponseDto<UserChangeDto> getUserChanges(@RequestParam("after") long after, @RequestParam("limit") int limit);
 }
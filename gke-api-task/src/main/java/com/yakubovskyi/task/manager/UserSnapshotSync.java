@@ -0,0 +1,64 @@
+package com.yakubovskyi.task.manager;
+
+import com.yakubovskyi.task.config.UserSnapshotProperties;
+import com.yakubovskyi.task.dto.PageResponseDto;
+import com.yakubovskyi.task.dto.UserChangeDto;
+import com.yakubovskyi.task.service.UserSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "user-snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UserSnapshotSync implements SchedulingConfigurer {
+
+    private final UserManager userManager;
+    private final UserSnapshotService snapshotService;
+    private final UserSnapshotProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(this::poll, properties.getPollInterval(), properties.getPollInterval()));
+    }
+
+    public void poll() {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("User change feed sync failed, retrying on next poll: {}", e.toString());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long catchUp() {
+        lock.lock();
+        try {
+            return sync();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long sync() {
+        long position = snapshotService.getPosition();
+        PageResponseDto<UserChangeDto> page;
+        do {
+            page = userManager.getUserChanges(position, properties.getBatchSize());
+            position = snapshotService.apply(page.getItems(), page.getNextCursor());
+        } while (page.getItems().size() == properties.getBatchSize());
+        return position;
+    }
+}
@@ -0,0 +1,27 @@
+package com.yakubovskyi.task.repository;
+
+import com.yakubovskyi.task.entity.SyncCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SyncCheckpointRepository extends JpaRepository<SyncCheckpoint, String> {
+
+    @Modifying
+    @Query(value = """
+            insert into sync_checkpoints (name, position)
+            values (:name, 0) on conflict do nothing""", nativeQuery = true)
+    void insertIfAbsent(@Param("name") String name);
+
+    @Modifying
+    @Query("""
+            update SyncCheckpoint c set c.position = :position
+            where c.name = :name and c.position < :position""")
+    int advance(@Param("name") String name, @Param("position") long position);
+
+    @Query("select c.position from SyncCheckpoint c where c.name = :name")
+    long findPosition(@Param("name") String name);
+}
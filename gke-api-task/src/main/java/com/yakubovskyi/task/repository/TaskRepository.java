@@ -1,12 +1,91 @@
 package com.yakubovskyi.task.repository;
 
+import com.yakubovskyi.task.dto.TaskResponseDto;
 import com.yakubovskyi.task.entity.Task;
+import com.yakubovskyi.task.entity.TaskStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskSearchRepository {
     List<Task> findByUserId(String userId);
+
+    @Query("""
+            select new com.yakubovskyi.task.dto.TaskResponseDto(t.id, t.userId, t.title, t.status, t.version)
+            from Task t where t.userId = :userId order by t.id""")
+    List<TaskResponseDto> findResponsesByUserId(@Param("userId") String userId);
+
+    List<Task> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @Query("select t as task, u as user from Task t left join UserSnapshot u on u.id = t.userId where t.id = :id")
+    Optional<TaskWithUserView> findWithUserById(@Param("id") Long id);
+
+    @Query("""
+            select t as task, u as user from Task t left join UserSnapshot u on u.id = t.userId
+            where t.userId = :userId order by t.id""")
+    List<TaskWithUserView> findWithUserByUserId(@Param("userId") String userId);
+
+    @Query("""
+            select t as task, u as user from Task t left join UserSnapshot u on u.id = t.userId
+            where t.id > :afterId order by t.id""")
+    List<TaskWithUserView> findWithUserPage(@Param("afterId") Long afterId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Task t order by t.id")
+    Stream<Task> streamAll();
+
+    @Query("select t.version from Task t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select t.id from Task t where t.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Task t set t.status = :status, t.version = t.version + 1
+            where t.id in :ids and (:fromStatus is null or t.status = :fromStatus)""")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("fromStatus") TaskStatus fromStatus,
+                          @Param("status") TaskStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id = :id")
+    Optional<Task> findForUpdateById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select t.id as id, t.userId as userId, t.status as status, t.version as version from Task t
+            where t.id in :ids and (:fromStatus is null or t.status = :fromStatus) order by t.id""")
+    List<TaskStatusView> lockStatusesByIds(@Param("ids") Collection<Long> ids,
+                                           @Param("fromStatus") TaskStatus fromStatus);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select t.id as id, t.userId as userId, t.status as status, t.version as version from Task t
+            where t.userId = :userId and (:fromStatus is null or t.status = :fromStatus) order by t.id""")
+    List<TaskStatusView> lockStatusesByUserId(@Param("userId") String userId,
+                                              @Param("fromStatus") TaskStatus fromStatus);
+
+    @Query("select t.status as status, count(t) as count from Task t where t.userId = :userId group by t.status")
+    List<TaskStatusCount> countByUserIdGroupByStatus(@Param("userId") String userId);
+
+    @Query("select t.status as status, count(t) as count from Task t group by t.status")
+    List<TaskStatusCount> countGroupByStatus();
 }
@@ -0,0 +1,12 @@
+package com.yakubovskyi.task.repository;
+
+import com.yakubovskyi.task.dto.TaskResponseDto;
+import com.yakubovskyi.task.entity.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+
+public interface TaskSearchRepository {
+    Page<TaskResponseDto> search(String userId, Collection<TaskStatus> statuses, String titlePrefix, Pageable pageable);
+}
@@ -0,0 +1,77 @@
+package com.yakubovskyi.task.repository;
+
+import com.yakubovskyi.task.dto.TaskResponseDto;
+import com.yakubovskyi.task.entity.Task;
+import com.yakubovskyi.task.entity.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<TaskResponseDto> search(String userId, Collection<TaskStatus> statuses, String titlePrefix, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponseDto> query = cb.createQuery(TaskResponseDto.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(cb.construct(TaskResponseDto.class,
+                        task.get("id"), task.get("userId"), task.get("title"), task.get("status"), task.get("version")))
+                .where(filters(cb, task, userId, statuses, titlePrefix))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), task, cb));
+
+        TypedQuery<TaskResponseDto> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable,
+                () -> count(userId, statuses, titlePrefix));
+    }
+
+    private long count(String userId, Collection<TaskStatus> statuses, String titlePrefix) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(cb.count(task))
+                .where(filters(cb, task, userId, statuses, titlePrefix));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate[] filters(CriteriaBuilder cb, Root<Task> task,
+                                String userId, Collection<TaskStatus> statuses, String titlePrefix) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (userId != null) {
+            predicates.add(cb.equal(task.get("userId"), userId));
+        }
+        if (statuses != null && !statuses.isEmpty()) {
+            predicates.add(task.get("status").in(statuses));
+        }
+        if (titlePrefix != null && !titlePrefix.isEmpty()) {
+            predicates.add(cb.like(task.get("title"), escapeLike(titlePrefix) + "%", LIKE_ESCAPE));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
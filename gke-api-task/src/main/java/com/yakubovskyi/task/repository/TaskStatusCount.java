@@ -0,0 +1,9 @@
+package com.yakubovskyi.task.repository;
+
+import com.yakubovskyi.task.entity.TaskStatus;
+
+public interface TaskStatusCount {
+    TaskStatus getStatus();
+
+    long getCount();
+}
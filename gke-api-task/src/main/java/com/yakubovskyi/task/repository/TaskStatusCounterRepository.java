@@ -0,0 +1,37 @@
+package com.yakubovskyi.task.repository;
+
+import com.yakubovskyi.task.entity.TaskStatus;
+import com.yakubovskyi.task.entity.TaskStatusCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskStatusCounterRepository extends JpaRepository<TaskStatusCounter, TaskStatusCounter.Key> {
+
+    @Modifying
+    @Query(value = """
+            insert into task_status_counters (user_id, status, task_count)
+            values (:userId, :status, 0) on conflict do nothing""", nativeQuery = true)
+    void insertIfAbsent(@Param("userId") String userId, @Param("status") String status);
+
+    @Modifying
+    @Query("""
+            update TaskStatusCounter c set c.taskCount = c.taskCount + :delta
+            where c.userId = :userId and c.status = :status""")
+    int increment(@Param("userId") String userId,
+                  @Param("status") TaskStatus status,
+                  @Param("delta") long delta);
+
+    @Query("""
+            select c.status as status, sum(c.taskCount) as count from TaskStatusCounter c
+            where c.userId = :userId group by c.status""")
+    List<TaskStatusCount> sumByUserId(@Param("userId") String userId);
+
+    @Query("select c.status as status, sum(c.taskCount) as count from TaskStatusCounter c group by c.status")
+    List<TaskStatusCount> sumAll();
+}
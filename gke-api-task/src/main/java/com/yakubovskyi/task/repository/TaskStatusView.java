@@ -0,0 +1,13 @@
+package com.yakubovskyi.task.repository;
+
+import com.yakubovskyi.task.entity.TaskStatus;
+
+public interface TaskStatusView {
+    Long getId();
+
+    String getUserId();
+
+    TaskStatus getStatus();
+
+    Long getVersion();
+}
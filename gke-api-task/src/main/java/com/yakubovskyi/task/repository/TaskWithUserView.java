@@ -0,0 +1,10 @@
+package com.yakubovskyi.task.repository;
+
+import com.yakubovskyi.task.entity.Task;
+import com.yakubovskyi.task.entity.UserSnapshot;
+
+public interface TaskWithUserView {
+    Task getTask();
+
+    UserSnapshot getUser();
+}
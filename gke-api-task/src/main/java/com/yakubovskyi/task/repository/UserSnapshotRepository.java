@@ -0,0 +1,27 @@
+package com.yakubovskyi.task.repository;
+
+import com.yakubovskyi.task.entity.UserSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserSnapshotRepository extends JpaRepository<UserSnapshot, String> {
+
+    @Modifying
+    @Query(value = """
+            insert into user_snapshot (id, deleted, sequence)
+            values (:id, false, 0) on conflict do nothing""", nativeQuery = true)
+    void insertIfAbsent(@Param("id") String id);
+
+    @Modifying
+    @Query("""
+            update UserSnapshot s set s.name = :name, s.deleted = :deleted, s.sequence = :sequence
+            where s.id = :id and s.sequence < :sequence""")
+    int updateIfNewer(@Param("id") String id,
+                      @Param("name") String name,
+                      @Param("deleted") boolean deleted,
+                      @Param("sequence") long sequence);
+}
@@ -0,0 +1,43 @@
+package com.yakubovskyi.task.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class TaskQueryExecutor {
+
+    private final ExecutorService executor;
+    private final TaskDecorator taskDecorator;
+
+    public TaskQueryExecutor(Environment environment, TaskDecorator taskDecorator,
+                             @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.executor = Threading.VIRTUAL.isActive(environment)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(poolSize),
+                        Thread.ofPlatform().name("task-query-", 0).factory(),
+                        new ThreadPoolExecutor.CallerRunsPolicy());
+        this.taskDecorator = taskDecorator;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, task -> executor.execute(taskDecorator.decorate(task)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
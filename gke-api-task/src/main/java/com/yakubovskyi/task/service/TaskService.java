@@ -1,35 +1,113 @@
 package com.yakubovskyi.task.service;
 
+import com.yakubovskyi.task.config.UserClientResilienceProperties;
+import com.yakubovskyi.task.config.UserSnapshotProperties;
+import com.yakubovskyi.task.dto.BulkUpdateTaskStatusRequestDto;
+import com.yakubovskyi.task.dto.BulkUpdateTaskStatusResponseDto;
 import com.yakubovskyi.task.dto.CreateTaskRequestDto;
+import com.yakubovskyi.task.dto.PageResponseDto;
+import com.yakubovskyi.task.dto.TaskEventDto;
 import com.yakubovskyi.task.dto.TaskResponseDto;
+import com.yakubovskyi.task.dto.TaskStatusSummaryResponseDto;
 import com.yakubovskyi.task.dto.TaskWithUserResponseDto;
 import com.yakubovskyi.task.dto.UpdateTaskStatusRequestDto;
 import com.yakubovskyi.task.dto.UserResponseDto;
 import com.yakubovskyi.task.entity.Task;
 import com.yakubovskyi.task.entity.TaskStatus;
-import com.yakubovskyi.task.manager.UserManager;
+import com.yakubovskyi.task.entity.UserSnapshot;
+import com.yakubovskyi.task.event.TaskEventType;
+import com.yakubovskyi.task.manager.UserCache;
 import com.yakubovskyi.task.repository.TaskRepository;
+import com.yakubovskyi.task.repository.TaskStatusView;
+import com.yakubovskyi.task.repository.TaskWithUserView;
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "task.service", histogram = true)
 public class TaskService {
 
+    public static final int MAX_PAGE_LIMIT = 1000;
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "userId", "title", "status");
+    private static final int MAX_IN_CLAUSE_SIZE = 1000;
+
     private final TaskRepository taskRepository;
-    private final UserManager userManager;
+    private final TaskStatusCounterService statusCounterService;
+    private final UserCache userCache;
+    private final UserClientResilienceProperties resilienceProperties;
+    private final UserSnapshotProperties userSnapshotProperties;
+    private final TaskQueryExecutor queryExecutor;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
 
+    @Transactional
     public TaskResponseDto createTask(CreateTaskRequestDto request) {
-        Task task = Task.builder()
+        Task savedTask = taskRepository.save(newTask(request));
+        statusCounterService.recordCreated(Map.of(savedTask.getUserId(), 1L));
+        publish(TaskEventType.CREATED, savedTask, null);
+        return mapToResponse(savedTask);
+    }
+
+    @Transactional
+    public List<TaskResponseDto> createTasks(List<CreateTaskRequestDto> requests) {
+        List<TaskResponseDto> created = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Task savedTask = taskRepository.save(newTask(requests.get(i)));
+            created.add(mapToResponse(savedTask));
+            publish(TaskEventType.CREATED, savedTask, null);
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        statusCounterService.recordCreated(requests.stream()
+                .collect(Collectors.groupingBy(CreateTaskRequestDto::getUserId, Collectors.counting())));
+        return created;
+    }
+
+    private Task newTask(CreateTaskRequestDto request) {
+        return Task.builder()
                 .userId(request.getUserId())
                 .title(request.getTitle())
                 .status(TaskStatus.PENDING)
                 .build();
-        Task savedTask = taskRepository.save(task);
-        return mapToResponse(savedTask);
     }
 
     public List<TaskResponseDto> getAllTasks() {
@@ -38,55 +116,321 @@ public class TaskService {
                 .toList();
     }
 
+    public PageResponseDto<TaskResponseDto> getTasksPage(Long afterId, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_LIMIT);
+        List<Task> tasks = findPage(afterId, pageSize);
+        return PageResponseDto.<TaskResponseDto>builder()
+                .items(tasks.stream().map(this::mapToResponse).toList())
+                .nextCursor(nextCursor(tasks, pageSize))
+                .build();
+    }
+
+    public PageResponseDto<TaskWithUserResponseDto> getTasksWithUserPage(Long afterId, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_LIMIT);
+        if (userSnapshotProperties.isEnabled()) {
+            List<TaskWithUserView> rows = taskRepository.findWithUserPage(afterId == null ? 0L : afterId, Limit.of(pageSize));
+            return PageResponseDto.<TaskWithUserResponseDto>builder()
+                    .items(withUsers(rows))
+                    .nextCursor(nextCursor(rows.stream().map(TaskWithUserView::getTask).toList(), pageSize))
+                    .build();
+        }
+        List<Task> tasks = findPage(afterId, pageSize);
+        Map<String, UserResponseDto> users = usersById(tasks.stream()
+                .map(Task::getUserId)
+                .collect(Collectors.toSet()));
+        return PageResponseDto.<TaskWithUserResponseDto>builder()
+                .items(tasks.stream()
+                        .map(task -> mapToResponse(task, users.get(task.getUserId())))
+                        .toList())
+                .nextCursor(nextCursor(tasks, pageSize))
+                .build();
+    }
+
+    private List<Task> findPage(Long afterId, int pageSize) {
+        return taskRepository.findByIdGreaterThanOrderByIdAsc(afterId == null ? 0L : afterId, Limit.of(pageSize));
+    }
+
+    private Long nextCursor(List<Task> tasks, int pageSize) {
+        return tasks.size() == pageSize ? tasks.get(tasks.size() - 1).getId() : null;
+    }
+
+    private List<TaskWithUserResponseDto> withUsers(List<TaskWithUserView> rows) {
+        Map<String, UserResponseDto> replicaMisses = usersById(rows.stream()
+                .filter(row -> row.getUser() == null)
+                .map(row -> row.getTask().getUserId())
+                .collect(Collectors.toSet()));
+        return rows.stream()
+                .map(row -> mapToResponse(row.getTask(), row.getUser() != null
+                        ? mapToResponse(row.getUser())
+                        : replicaMisses.get(row.getTask().getUserId())))
+                .toList();
+    }
+
+    private Map<String, UserResponseDto> usersById(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return userCache.getUsersByIds(userIds);
+        } catch (RuntimeException e) {
+            return degrade(e, Map.of());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllTasks(Consumer<TaskResponseDto> consumer) {
+        try (Stream<Task> tasks = taskRepository.streamAll()) {
+            tasks.forEach(task -> {
+                consumer.accept(mapToResponse(task));
+                entityManager.detach(task);
+            });
+        }
+    }
+
     public TaskResponseDto getTaskById(Long id) {
         Task task = byIdOrThrow(id);
         return mapToResponse(task);
     }
 
     public TaskWithUserResponseDto getTaskWithUser(Long id) {
+        if (userSnapshotProperties.isEnabled()) {
+            TaskWithUserView row = taskRepository.findWithUserById(id)
+                    .orElseThrow(() ->
+                            new EntityNotFoundException("Task not found with id: " + id));
+            return withUsers(List.of(row)).get(0);
+        }
         Task task = byIdOrThrow(id);
-        UserResponseDto user = userManager.getUserById(task.getUserId());
+        UserResponseDto user = findUser(task.getUserId());
         return mapToResponse(task, user);
     }
 
+    public CompletableFuture<TaskWithUserResponseDto> getTaskWithUserAsync(Long id, String userId) {
+        if (userSnapshotProperties.isEnabled()) {
+            return queryExecutor.submit(() -> getTaskWithUser(id));
+        }
+        CompletableFuture<UserResponseDto> user = findUserAsync(userId);
+        return queryExecutor.submit(() -> byIdOrThrow(id))
+                .thenCompose(task -> userId.equals(task.getUserId())
+                        ? user.thenApply(found -> mapToResponse(task, found))
+                        : findUserAsync(task.getUserId()).thenApply(found -> mapToResponse(task, found)));
+    }
+
+    private CompletableFuture<UserResponseDto> findUserAsync(String userId) {
+        return userCache.getUserByIdAsync(userId)
+                .exceptionally(e -> degrade(e, null));
+    }
+
+    private UserResponseDto findUser(String userId) {
+        try {
+            return userCache.getUserById(userId);
+        } catch (RuntimeException e) {
+            return degrade(e, null);
+        }
+    }
+
+    private <T> T degrade(Throwable error, T fallback) {
+        Throwable e = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (e instanceof FeignException.NotFound) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found", e);
+        }
+        if (!resilienceProperties.isDegradedMode() || !isUserServiceUnavailable(e)) {
+            throw e instanceof RuntimeException runtimeException ? runtimeException : new CompletionException(e);
+        }
+        log.warn("User lookup failed, responding without user data: {}", e.toString());
+        return fallback;
+    }
+
+    private static boolean isUserServiceUnavailable(Throwable e) {
+        return e instanceof CallNotPermittedException
+                || e instanceof BulkheadFullException
+                || e instanceof TimeoutException
+                || e instanceof RetryableException
+                || e instanceof FeignException feignException && feignException.status() >= 500;
+    }
+
+    public long getTaskVersion(Long id) {
+        return taskRepository.findVersionById(id)
+                .orElseThrow(() ->
+                        new EntityNotFoundException("Task not found with id: " + id));
+    }
+
     private Task byIdOrThrow(Long id) {
         return taskRepository.findById(id)
                 .orElseThrow(() ->
                         new EntityNotFoundException("Task not found with id: " + id));
     }
 
+    private Task byIdForUpdateOrThrow(Long id) {
+        return taskRepository.findForUpdateById(id)
+                .orElseThrow(() ->
+                        new EntityNotFoundException("Task not found with id: " + id));
+    }
+
     public List<TaskResponseDto> getTasksByUserId(String userId) {
-        return taskRepository.findByUserId(userId).stream()
-                .map(this::mapToResponse)
+        return taskRepository.findResponsesByUserId(userId);
+    }
+
+    public Page<TaskResponseDto> searchTasks(String userId, Set<TaskStatus> statuses, String titlePrefix, Pageable pageable) {
+        pageable.getSort().forEach(order -> {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot sort by: " + order.getProperty());
+            }
+        });
+        Sort sort = pageable.getSort().getOrderFor("id") == null
+                ? pageable.getSort().and(Sort.by("id"))
+                : pageable.getSort();
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_LIMIT), sort);
+        return taskRepository.search(userId, statuses, titlePrefix, page);
+    }
+
+    public List<TaskWithUserResponseDto> getTasksWithUserByUserId(String userId) {
+        if (userSnapshotProperties.isEnabled()) {
+            return withUsers(taskRepository.findWithUserByUserId(userId));
+        }
+        List<Task> tasks = taskRepository.findByUserId(userId);
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+        UserResponseDto user = findUser(userId);
+        return tasks.stream()
+                .map(task -> mapToResponse(task, user))
                 .toList();
     }
 
+    @Transactional
     public TaskResponseDto updateTaskStatus(Long id, UpdateTaskStatusRequestDto request) {
-        Task task = byIdOrThrow(id);
+        return updateTaskStatus(id, request, null);
+    }
+
+    @Transactional
+    public TaskResponseDto updateTaskStatus(Long id, UpdateTaskStatusRequestDto request, Set<Long> expectedVersions) {
+        Task task = byIdForUpdateOrThrow(id);
+        if (expectedVersions != null && !expectedVersions.contains(task.getVersion())) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                    "Task " + id + " was modified, current version is " + task.getVersion());
+        }
+        TaskStatus previousStatus = task.getStatus();
         task.setStatus(request.getStatus());
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        statusCounterService.recordTransition(task.getUserId(), previousStatus, request.getStatus());
+        if (previousStatus != updatedTask.getStatus()) {
+            publish(TaskEventType.STATUS_CHANGED, updatedTask, previousStatus);
+        }
         return mapToResponse(updatedTask);
     }
 
+    @Transactional
+    public BulkUpdateTaskStatusResponseDto updateTasksStatus(BulkUpdateTaskStatusRequestDto request) {
+        if (request.getStatus() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Target status is required");
+        }
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            return updateStatusByIds(request);
+        }
+        if (request.getUserId() != null) {
+            List<TaskStatusView> locked = taskRepository.lockStatusesByUserId(request.getUserId(), request.getFromStatus());
+            return BulkUpdateTaskStatusResponseDto.builder()
+                    .updated(updateLocked(locked, request.getStatus()))
+                    .missingIds(List.of())
+                    .build();
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Either ids or userId is required");
+    }
+
+    private BulkUpdateTaskStatusResponseDto updateStatusByIds(BulkUpdateTaskStatusRequestDto request) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(request.getIds()));
+        List<Long> missingIds = new ArrayList<>();
+        List<TaskStatusView> locked = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_IN_CLAUSE_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, ids.size()));
+            Set<Long> existing = new HashSet<>(taskRepository.findExistingIds(chunk));
+            chunk.stream()
+                    .filter(id -> !existing.contains(id))
+                    .forEach(missingIds::add);
+            locked.addAll(taskRepository.lockStatusesByIds(chunk, request.getFromStatus()));
+        }
+        return BulkUpdateTaskStatusResponseDto.builder()
+                .updated(updateLocked(locked, request.getStatus()))
+                .missingIds(missingIds)
+                .build();
+    }
+
+    private int updateLocked(List<TaskStatusView> locked, TaskStatus status) {
+        int updated = 0;
+        for (int from = 0; from < locked.size(); from += MAX_IN_CLAUSE_SIZE) {
+            List<Long> chunk = locked.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, locked.size())).stream()
+                    .map(TaskStatusView::getId)
+                    .toList();
+            updated += taskRepository.updateStatusByIds(chunk, null, status);
+        }
+        statusCounterService.recordTransitions(locked, status);
+        locked.stream()
+                .filter(task -> task.getStatus() != status)
+                .forEach(task -> eventPublisher.publishEvent(TaskEventDto.builder()
+                        .type(TaskEventType.STATUS_CHANGED)
+                        .taskId(task.getId())
+                        .userId(task.getUserId())
+                        .status(status)
+                        .previousStatus(task.getStatus())
+                        .version(task.getVersion() + 1)
+                        .build()));
+        return updated;
+    }
+
+    public TaskStatusSummaryResponseDto getStatusSummary(boolean recount) {
+        return statusCounterService.getSummary(recount);
+    }
+
+    public TaskStatusSummaryResponseDto getStatusSummaryByUserId(String userId, boolean recount) {
+        return statusCounterService.getSummary(userId, recount);
+    }
+
+    @Transactional
     public void deleteTask(Long id) {
-        taskRepository.delete(byIdOrThrow(id));
+        Task task = byIdForUpdateOrThrow(id);
+        taskRepository.delete(task);
+        statusCounterService.recordDeleted(task.getUserId(), task.getStatus());
+        publish(TaskEventType.DELETED, task, null);
+    }
+
+    private void publish(TaskEventType type, Task task, TaskStatus previousStatus) {
+        eventPublisher.publishEvent(TaskEventDto.builder()
+                .type(type)
+                .taskId(task.getId())
+                .userId(task.getUserId())
+                .status(task.getStatus())
+                .previousStatus(previousStatus)
+                .version(task.getVersion())
+                .build());
     }
 
-    private TaskResponseDto mapToResponse(Task task) {
+    TaskResponseDto mapToResponse(Task task) {
         return TaskResponseDto.builder()
                 .id(task.getId())
                 .userId(task.getUserId())
                 .title(task.getTitle())
                 .status(task.getStatus())
+                .version(task.getVersion())
+                .build();
+    }
+
+    UserResponseDto mapToResponse(UserSnapshot user) {
+        if (user.isDeleted()) {
+            return null;
+        }
+        return UserResponseDto.builder()
+                .id(user.getId())
+                .name(user.getName())
                 .build();
     }
 
-    private TaskWithUserResponseDto mapToResponse(Task task, UserResponseDto user) {
+    TaskWithUserResponseDto mapToResponse(Task task, UserResponseDto user) {
         return TaskWithUserResponseDto.builder()
                 .id(task.getId())
                 .userId(task.getUserId())
                 .title(task.getTitle())
                 .status(task.getStatus())
+                .version(task.getVersion())
                 .user(user)
                 .build();
     }
@@ -0,0 +1,103 @@
+package com.yakubovskyi.task.service;
+
+import com.yakubovskyi.task.dto.TaskStatusSummaryResponseDto;
+import com.yakubovskyi.task.entity.TaskStatus;
+import com.yakubovskyi.task.entity.TaskStatusCounter;
+import com.yakubovskyi.task.repository.TaskRepository;
+import com.yakubovskyi.task.repository.TaskStatusCount;
+import com.yakubovskyi.task.repository.TaskStatusCounterRepository;
+import com.yakubovskyi.task.repository.TaskStatusView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class TaskStatusCounterService {
+
+    private final TaskStatusCounterRepository counterRepository;
+    private final TaskRepository taskRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Map<String, Long> countsByUserId) {
+        SortedMap<TaskStatusCounter.Key, Long> deltas = new TreeMap<>();
+        countsByUserId.forEach((userId, count) -> add(deltas, userId, TaskStatus.PENDING, count));
+        apply(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(String userId, TaskStatus from, TaskStatus to) {
+        SortedMap<TaskStatusCounter.Key, Long> deltas = new TreeMap<>();
+        add(deltas, userId, from, -1);
+        add(deltas, userId, to, 1);
+        apply(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransitions(Collection<TaskStatusView> tasks, TaskStatus to) {
+        SortedMap<TaskStatusCounter.Key, Long> deltas = new TreeMap<>();
+        tasks.forEach(task -> {
+            add(deltas, task.getUserId(), task.getStatus(), -1);
+            add(deltas, task.getUserId(), to, 1);
+        });
+        apply(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(String userId, TaskStatus status) {
+        SortedMap<TaskStatusCounter.Key, Long> deltas = new TreeMap<>();
+        add(deltas, userId, status, -1);
+        apply(deltas);
+    }
+
+    public TaskStatusSummaryResponseDto getSummary(String userId, boolean recount) {
+        List<TaskStatusCount> counts = recount
+                ? taskRepository.countByUserIdGroupByStatus(userId)
+                : counterRepository.sumByUserId(userId);
+        return toSummary(userId, counts);
+    }
+
+    public TaskStatusSummaryResponseDto getSummary(boolean recount) {
+        List<TaskStatusCount> counts = recount
+                ? taskRepository.countGroupByStatus()
+                : counterRepository.sumAll();
+        return toSummary(null, counts);
+    }
+
+    private static void add(Map<TaskStatusCounter.Key, Long> deltas, String userId, TaskStatus status, long delta) {
+        deltas.merge(new TaskStatusCounter.Key(userId, status), delta, Long::sum);
+    }
+
+    private void apply(SortedMap<TaskStatusCounter.Key, Long> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (delta == 0) {
+                return;
+            }
+            if (delta > 0) {
+                counterRepository.insertIfAbsent(key.getUserId(), key.getStatus().name());
+            }
+            counterRepository.increment(key.getUserId(), key.getStatus(), delta);
+        });
+    }
+
+    private static TaskStatusSummaryResponseDto toSummary(String userId, List<TaskStatusCount> counts) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        counts.forEach(count -> byStatus.put(count.getStatus(), count.getCount()));
+        return TaskStatusSummaryResponseDto.builder()
+                .userId(userId)
+                .counts(byStatus)
+                .total(byStatus.values().stream().mapToLong(Long::longValue).sum())
+                .build();
+    }
+}
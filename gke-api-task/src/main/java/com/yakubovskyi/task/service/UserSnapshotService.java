@@ -0,0 +1,47 @@
+package com.yakubovskyi.task.service;
+
+import com.yakubovskyi.task.dto.UserChangeDto;
+import com.yakubovskyi.task.dto.UserChangeType;
+import com.yakubovskyi.task.entity.SyncCheckpoint;
+import com.yakubovskyi.task.repository.SyncCheckpointRepository;
+import com.yakubovskyi.task.repository.UserSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class UserSnapshotService {
+
+    public static final String CHECKPOINT = "user-changes";
+
+    private final UserSnapshotRepository snapshotRepository;
+    private final SyncCheckpointRepository checkpointRepository;
+
+    @Transactional(readOnly = true)
+    public long getPosition() {
+        return checkpointRepository.findById(CHECKPOINT)
+                .map(SyncCheckpoint::getPosition)
+                .orElse(0L);
+    }
+
+    @Transactional
+    public long apply(List<UserChangeDto> changes, long nextCursor) {
+        Map<String, UserChangeDto> latest = new TreeMap<>();
+        changes.forEach(change -> latest.merge(change.getUserId(), change,
+                (current, next) -> next.getSequence() > current.getSequence() ? next : current));
+        latest.values().forEach(change -> {
+            boolean deleted = change.getType() == UserChangeType.DELETED;
+            snapshotRepository.insertIfAbsent(change.getUserId());
+            snapshotRepository.updateIfNewer(change.getUserId(), deleted ? null : change.getName(), deleted,
+                    change.getSequence());
+        });
+        checkpointRepository.insertIfAbsent(CHECKPOINT);
+        checkpointRepository.advance(CHECKPOINT, nextCursor);
+        return checkpointRepository.findPosition(CHECKPOINT);
+    }
+}
@@ -0,0 +1,73 @@
+package com.yakubovskyi.task.api;
+
+import com.yakubovskyi.task.entity.Task;
+import com.yakubovskyi.task.entity.TaskStatus;
+import com.yakubovskyi.task.manager.UserCache;
+import com.yakubovskyi.task.repository.TaskRepository;
+import com.yakubovskyi.task.support.StubUserService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class PrometheusMetricsTest {
+
+    private static final StubUserService userService = StubUserService.start();
+
+    @DynamicPropertySource
+    static void userServiceProps(DynamicPropertyRegistry registry) {
+        registry.add("user-service.url", userService::url);
+    }
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @AfterAll
+    static void stopStub() {
+        userService.close();
+    }
+
+    @Test
+    @DisplayName("Should export service, repository, Feign client and pool metrics without raw ids in tags")
+    void prometheus_ExportsHotPathMetrics() throws Exception {
+        userCache.invalidateAll();
+        Task task = taskRepository.save(Task.builder().userId("user-metrics-1").title("Task").status(TaskStatus.PENDING).build());
+        mvc.perform(get("/api/v1/task/{id}/with-user", task.getId()))
+                .andExpect(status().isOk());
+
+        String scrape = mvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("task_service_seconds_bucket{")
+                .containsPattern("task_service_seconds_count\\{.*method=\"getTaskWithUser\"")
+                .containsPattern("spring_data_repository_invocations_seconds_bucket\\{.*repository=\"TaskRepository\"")
+                .containsPattern("http_client_requests_seconds_bucket\\{.*http_url=\"/api/v1/user/\\{id}\"")
+                .containsPattern("http_server_requests_seconds_bucket\\{.*uri=\"/api/v1/task/\\{id}/with-user\"")
+                .contains("hikaricp_connections_active{")
+                .doesNotContain("user-metrics-1")
+                .doesNotContain("/api/v1/task/" + task.getId());
+    }
+}
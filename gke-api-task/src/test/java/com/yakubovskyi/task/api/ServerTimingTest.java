@@ -0,0 +1,96 @@
+package com.yakubovskyi.task.api;
+
+import com.yakubovskyi.task.entity.Task;
+import com.yakubovskyi.task.entity.TaskStatus;
+import com.yakubovskyi.task.manager.UserCache;
+import com.yakubovskyi.task.repository.TaskRepository;
+import com.yakubovskyi.task.support.StubUserService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ServerTimingTest {
+
+    private static final String TRACE_ID = "trace-123";
+    private static final String USER_TIMING = "user.app;dur=4.2, user.db;dur=3.1";
+
+    private static final StubUserService userService = StubUserService.start();
+
+    @DynamicPropertySource
+    static void userServiceProps(DynamicPropertyRegistry registry) {
+        registry.add("user-service.url", userService::url);
+    }
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        userService.reset();
+        userService.setResponseHeader("Server-Timing", USER_TIMING);
+        userCache.invalidateAll();
+        taskRepository.deleteAll();
+        task = taskRepository.save(Task.builder().userId("user-1").title("Task").status(TaskStatus.PENDING).build());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        userService.close();
+    }
+
+    @Test
+    @DisplayName("Should break down task-with-user latency into task and user-service phases")
+    void getTaskWithUser_ReportsServerTiming() throws Exception {
+        String serverTiming = mvc.perform(get("/api/v1/task/{id}/with-user", task.getId()).header("X-Trace-Id", TRACE_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Trace-Id", TRACE_ID))
+                .andReturn().getResponse().getHeader("Server-Timing");
+
+        assertThat(serverTiming)
+                .matches("task\\.app;dur=\\d+\\.\\d, task\\.db;dur=\\d+\\.\\d, task\\.user;dur=\\d+\\.\\d, " + USER_TIMING);
+        assertThat(userService.lastRequestHeader("X-Trace-Id")).isEqualTo(TRACE_ID);
+    }
+
+    @Test
+    @DisplayName("Should report server timing for asynchronously completed requests")
+    void getTaskWithKnownUser_ReportsServerTiming() throws Exception {
+        MvcResult result = mvc.perform(get("/api/v1/task/{id}/with-user", task.getId())
+                        .param("userId", "user-1")
+                        .header("X-Trace-Id", TRACE_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String serverTiming = mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("Server-Timing");
+
+        assertThat(serverTiming).contains("task.db;dur=", "task.user;dur=", USER_TIMING);
+        assertThat(userService.lastRequestHeader("X-Trace-Id")).isEqualTo(TRACE_ID);
+    }
+}
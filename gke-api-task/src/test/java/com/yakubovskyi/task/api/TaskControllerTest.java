@@ -1,11 +1,13 @@
 package com.yakubovskyi.task.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yakubovskyi.task.dto.BulkUpdateTaskStatusRequestDto;
 import com.yakubovskyi.task.dto.CreateTaskRequestDto;
 import com.yakubovskyi.task.dto.UpdateTaskStatusRequestDto;
 import com.yakubovskyi.task.dto.UserResponseDto;
 import com.yakubovskyi.task.entity.Task;
 import com.yakubovskyi.task.entity.TaskStatus;
+import com.yakubovskyi.task.manager.UserCache;
 import com.yakubovskyi.task.manager.UserManager;
 import com.yakubovskyi.task.repository.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -23,12 +26,18 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -47,6 +56,9 @@ class TaskControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private UserCache userCache;
+
     @MockBean
     private UserManager userManager;
 
@@ -55,6 +67,7 @@ class TaskControllerTest {
     @BeforeEach
     void setUp() {
         taskRepository.deleteAll();
+        userCache.invalidateAll();
     }
 
     @Test
@@ -77,6 +90,28 @@ class TaskControllerTest {
         assertThat(tasks.get(0).getStatus()).isEqualTo(TaskStatus.PENDING);
     }
 
+    @Test
+    @DisplayName("Should create tasks in batch preserving input order")
+    void createTasks_Success() throws Exception {
+        List<CreateTaskRequestDto> requests = List.of(
+                new CreateTaskRequestDto("user-1", "Task 1"),
+                new CreateTaskRequestDto("user-2", "Task 2"),
+                new CreateTaskRequestDto("user-1", "Task 3"));
+
+        mvc.perform(post(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].title").value("Task 1"))
+                .andExpect(jsonPath("$[1].userId").value("user-2"))
+                .andExpect(jsonPath("$[2].title").value("Task 3"))
+                .andExpect(jsonPath("$[2].status").value("PENDING"))
+                .andExpect(jsonPath("$[2].id").isNotEmpty());
+
+        assertThat(taskRepository.findAll()).hasSize(3);
+    }
+
     @Test
     @DisplayName("Should get all tasks")
     void getAllTasks_Success() throws Exception {
@@ -98,6 +133,46 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.length()").value(0));
     }
 
+    @Test
+    @DisplayName("Should page through tasks by id cursor")
+    void getTasksPage_Success() throws Exception {
+        Task first = taskRepository.save(Task.builder().userId("user-1").title("Task 1").status(TaskStatus.PENDING).build());
+        Task second = taskRepository.save(Task.builder().userId("user-1").title("Task 2").status(TaskStatus.PENDING).build());
+        taskRepository.save(Task.builder().userId("user-2").title("Task 3").status(TaskStatus.PENDING).build());
+
+        mvc.perform(get(API_URL + "/page").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(first.getId()))
+                .andExpect(jsonPath("$.items[1].id").value(second.getId()))
+                .andExpect(jsonPath("$.nextCursor").value(second.getId()));
+
+        mvc.perform(get(API_URL + "/page")
+                        .param("afterId", String.valueOf(second.getId()))
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Task 3"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should export all tasks as NDJSON")
+    void exportTasks_Success() throws Exception {
+        taskRepository.save(Task.builder().userId("user-1").title("Task 1").status(TaskStatus.PENDING).build());
+        taskRepository.save(Task.builder().userId("user-2").title("Task 2").status(TaskStatus.COMPLETED).build());
+
+        String body = mvc.perform(get(API_URL + "/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(0)).get("title").asText()).isEqualTo("Task 1");
+        assertThat(objectMapper.readTree(lines.get(1)).get("status").asText()).isEqualTo("COMPLETED");
+    }
+
     @Test
     @DisplayName("Should get task by id")
     void getTaskById_Success() throws Exception {
@@ -112,6 +187,27 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.status").value("PENDING"));
     }
 
+    @Test
+    @DisplayName("Should answer 304 when If-None-Match carries the current version")
+    void getTaskById_NotModified() throws Exception {
+        Task savedTask = taskRepository.saveAndFlush(
+                Task.builder().userId("user-123").title("Test Task").status(TaskStatus.PENDING).build()
+        );
+
+        mvc.perform(get(API_URL + "/{id}", savedTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(jsonPath("$.version").value(0));
+
+        mvc.perform(get(API_URL + "/{id}", savedTask.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mvc.perform(get(API_URL + "/{id}", savedTask.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Test Task"));
+    }
+
     @Test
     @DisplayName("Should get task with user")
     void getTaskWithUser_Success() throws Exception {
@@ -147,6 +243,107 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$[1].userId").value("user-123"));
     }
 
+    @Test
+    @DisplayName("Should search tasks by user, statuses and title prefix with sorting and paging")
+    void searchTasks_Success() throws Exception {
+        taskRepository.save(Task.builder().userId("user-123").title("Report A").status(TaskStatus.PENDING).build());
+        taskRepository.save(Task.builder().userId("user-123").title("Report B").status(TaskStatus.COMPLETED).build());
+        taskRepository.save(Task.builder().userId("user-123").title("Report_C").status(TaskStatus.IN_PROGRESS).build());
+        taskRepository.save(Task.builder().userId("user-123").title("Review").status(TaskStatus.PENDING).build());
+        taskRepository.save(Task.builder().userId("user-456").title("Report D").status(TaskStatus.PENDING).build());
+
+        mvc.perform(get(API_URL + "/search")
+                        .param("userId", "user-123")
+                        .param("status", "PENDING", "COMPLETED")
+                        .param("titlePrefix", "Report")
+                        .param("sort", "title,desc")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Report B"))
+                .andExpect(jsonPath("$.page.totalElements").value(2))
+                .andExpect(jsonPath("$.page.totalPages").value(2));
+
+        mvc.perform(get(API_URL + "/search").param("titlePrefix", "Report_"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Report_C"));
+
+        mvc.perform(get(API_URL + "/search").param("sort", "password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should summarize task statuses per user from counters that match a recount")
+    void getStatusSummaryByUserId_Success() throws Exception {
+        List<CreateTaskRequestDto> requests = List.of(
+                new CreateTaskRequestDto("user-123", "Task 1"),
+                new CreateTaskRequestDto("user-123", "Task 2"),
+                new CreateTaskRequestDto("user-123", "Task 3"),
+                new CreateTaskRequestDto("user-456", "Task 4"));
+        mvc.perform(post(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isCreated());
+        List<Task> tasks = taskRepository.findByUserId("user-123");
+        mvc.perform(patch(API_URL + "/{id}/status", tasks.get(0).getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateTaskStatusRequestDto(TaskStatus.COMPLETED))))
+                .andExpect(status().isOk());
+        mvc.perform(delete(API_URL + "/{id}", tasks.get(1).getId()))
+                .andExpect(status().isNoContent());
+
+        for (String recount : List.of("false", "true")) {
+            mvc.perform(get(API_URL + "/user/{userId}/summary", "user-123").param("recount", recount))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.userId").value("user-123"))
+                    .andExpect(jsonPath("$.counts.PENDING").value(1))
+                    .andExpect(jsonPath("$.counts.COMPLETED").value(1))
+                    .andExpect(jsonPath("$.counts.IN_PROGRESS").value(0))
+                    .andExpect(jsonPath("$.total").value(2));
+        }
+    }
+
+    @Test
+    @DisplayName("Should get tasks with user for a user id using one user lookup")
+    void getTasksWithUserByUserId_Success() throws Exception {
+        taskRepository.save(Task.builder().userId("user-123").title("Task 1").status(TaskStatus.PENDING).build());
+        taskRepository.save(Task.builder().userId("user-123").title("Task 2").status(TaskStatus.COMPLETED).build());
+
+        when(userManager.getUserById("user-123"))
+                .thenReturn(UserResponseDto.builder().id("user-123").name("John Doe").build());
+
+        mvc.perform(get(API_URL + "/user/{userId}/with-user", "user-123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].user.name").value("John Doe"))
+                .andExpect(jsonPath("$[1].user.name").value("John Doe"));
+
+        verify(userManager, times(1)).getUserById("user-123");
+    }
+
+    @Test
+    @DisplayName("Should page tasks with users resolved in one batched lookup")
+    void getTasksWithUserPage_Success() throws Exception {
+        taskRepository.save(Task.builder().userId("user-1").title("Task 1").status(TaskStatus.PENDING).build());
+        taskRepository.save(Task.builder().userId("user-2").title("Task 2").status(TaskStatus.PENDING).build());
+        taskRepository.save(Task.builder().userId("user-1").title("Task 3").status(TaskStatus.PENDING).build());
+
+        when(userManager.getUsersByIds(anyCollection())).thenReturn(List.of(
+                UserResponseDto.builder().id("user-1").name("Alice").build(),
+                UserResponseDto.builder().id("user-2").name("Bob").build()));
+
+        mvc.perform(get(API_URL + "/with-user").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[0].user.name").value("Alice"))
+                .andExpect(jsonPath("$.items[1].user.name").value("Bob"))
+                .andExpect(jsonPath("$.items[2].user.name").value("Alice"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+
+        verify(userManager, times(1)).getUsersByIds(anyCollection());
+    }
+
     @Test
     @DisplayName("Should update task status")
     void updateTaskStatus_Success() throws Exception {
@@ -169,6 +366,94 @@ class TaskControllerTest {
         assertThat(updatedTask.getStatus()).isEqualTo(TaskStatus.COMPLETED);
     }
 
+    @Test
+    @DisplayName("Should reject status update with a stale If-Match")
+    void updateTaskStatus_StaleIfMatch() throws Exception {
+        Task savedTask = taskRepository.saveAndFlush(
+                Task.builder().userId("user-123").title("Test Task").status(TaskStatus.PENDING).build()
+        );
+
+        mvc.perform(patch(API_URL + "/{id}/status", savedTask.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateTaskStatusRequestDto(TaskStatus.IN_PROGRESS))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+
+        mvc.perform(patch(API_URL + "/{id}/status", savedTask.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateTaskStatusRequestDto(TaskStatus.CANCELLED))))
+                .andExpect(status().isPreconditionFailed());
+
+        Task current = taskRepository.findById(savedTask.getId()).orElseThrow();
+        assertThat(current.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(current.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should bulk update status by ids and report missing ids")
+    void updateTasksStatus_ByIds() throws Exception {
+        Task first = taskRepository.save(Task.builder().userId("user-1").title("Task 1").status(TaskStatus.PENDING).build());
+        Task second = taskRepository.save(Task.builder().userId("user-2").title("Task 2").status(TaskStatus.PENDING).build());
+
+        BulkUpdateTaskStatusRequestDto request = BulkUpdateTaskStatusRequestDto.builder()
+                .ids(List.of(first.getId(), second.getId(), -1L))
+                .status(TaskStatus.IN_PROGRESS)
+                .build();
+
+        mvc.perform(patch(API_URL + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2))
+                .andExpect(jsonPath("$.missingIds.length()").value(1))
+                .andExpect(jsonPath("$.missingIds[0]").value(-1));
+
+        assertThat(taskRepository.findAll())
+                .extracting(Task::getStatus, Task::getVersion)
+                .containsOnly(tuple(TaskStatus.IN_PROGRESS, 1L));
+    }
+
+    @Test
+    @DisplayName("Should bulk update status by user and source status")
+    void updateTasksStatus_ByUserAndFromStatus() throws Exception {
+        taskRepository.save(Task.builder().userId("user-1").title("Task 1").status(TaskStatus.PENDING).build());
+        taskRepository.save(Task.builder().userId("user-1").title("Task 2").status(TaskStatus.ON_HOLD).build());
+        taskRepository.save(Task.builder().userId("user-2").title("Task 3").status(TaskStatus.PENDING).build());
+
+        BulkUpdateTaskStatusRequestDto request = BulkUpdateTaskStatusRequestDto.builder()
+                .userId("user-1")
+                .fromStatus(TaskStatus.PENDING)
+                .status(TaskStatus.CANCELLED)
+                .build();
+
+        mvc.perform(patch(API_URL + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.missingIds.length()").value(0));
+
+        assertThat(taskRepository.findByUserId("user-1"))
+                .extracting(Task::getStatus)
+                .containsExactlyInAnyOrder(TaskStatus.CANCELLED, TaskStatus.ON_HOLD);
+    }
+
+    @Test
+    @DisplayName("Should reject bulk status update without target status")
+    void updateTasksStatus_MissingStatus() throws Exception {
+        BulkUpdateTaskStatusRequestDto request = BulkUpdateTaskStatusRequestDto.builder()
+                .userId("user-1")
+                .build();
+
+        mvc.perform(patch(API_URL + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should delete task successfully")
     void deleteTask_Success() throws Exception {
@@ -0,0 +1,159 @@
+package com.yakubovskyi.task.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yakubovskyi.task.dto.CreateTaskRequestDto;
+import com.yakubovskyi.task.dto.TaskResponseDto;
+import com.yakubovskyi.task.dto.UpdateTaskStatusRequestDto;
+import com.yakubovskyi.task.entity.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class TaskEventStreamTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<Stream<String>> streams = new ArrayList<>();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void closeStreams() {
+        streams.forEach(Stream::close);
+    }
+
+    @Test
+    @DisplayName("Should stream a user's task changes and nothing else")
+    void streamUserEvents() throws Exception {
+        BlockingQueue<String> lines = subscribe("/user/events-user-1/events", null);
+
+        TaskResponseDto task = create("events-user-1");
+        create("events-user-2");
+        updateStatus(task.getId(), TaskStatus.COMPLETED);
+        delete(task.getId());
+
+        Map<String, String> created = nextEvent(lines);
+        assertThat(created.get("event")).isEqualTo("CREATED");
+        assertThat(json(created).get("taskId").asLong()).isEqualTo(task.getId());
+
+        Map<String, String> changed = nextEvent(lines);
+        assertThat(changed.get("event")).isEqualTo("STATUS_CHANGED");
+        assertThat(json(changed).get("previousStatus").asText()).isEqualTo("PENDING");
+        assertThat(json(changed).get("status").asText()).isEqualTo("COMPLETED");
+        assertThat(json(changed).get("version").asLong()).isEqualTo(1L);
+
+        Map<String, String> deleted = nextEvent(lines);
+        assertThat(deleted.get("event")).isEqualTo("DELETED");
+        assertThat(Long.parseLong(deleted.get("id"))).isGreaterThan(Long.parseLong(changed.get("id")));
+    }
+
+    @Test
+    @DisplayName("Should replay missed events after Last-Event-ID and ask to resync when they are gone")
+    void resumeFromLastEventId() throws Exception {
+        BlockingQueue<String> live = subscribe("/user/events-user-3/events", null);
+        TaskResponseDto task = create("events-user-3");
+        String createdId = nextEvent(live).get("id");
+        updateStatus(task.getId(), TaskStatus.IN_PROGRESS);
+        updateStatus(task.getId(), TaskStatus.COMPLETED);
+
+        BlockingQueue<String> resumed = subscribe("/" + task.getId() + "/events", createdId);
+        assertThat(json(nextEvent(resumed)).get("status").asText()).isEqualTo("IN_PROGRESS");
+        assertThat(json(nextEvent(resumed)).get("status").asText()).isEqualTo("COMPLETED");
+
+        BlockingQueue<String> stale = subscribe("/" + task.getId() + "/events", "999999999");
+        assertThat(nextEvent(stale).get("event")).isEqualTo("RESYNC");
+    }
+
+    private BlockingQueue<String> subscribe(String path, String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path)).header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = client.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type).startsWith("text/event-stream"));
+        streams.add(response.body());
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                response.body().forEach(lines::add);
+            } catch (UncheckedIOException closed) {
+                lines.add("closed");
+            }
+        });
+        return lines;
+    }
+
+    private Map<String, String> nextEvent(BlockingQueue<String> lines) throws InterruptedException {
+        Map<String, String> fields = new HashMap<>();
+        while (true) {
+            String line = lines.poll(5, TimeUnit.SECONDS);
+            assertThat(line).as("next SSE line").isNotNull();
+            if (line.isEmpty()) {
+                if (fields.containsKey("data")) {
+                    return fields;
+                }
+                continue;
+            }
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                fields.put(line.substring(0, colon), line.substring(colon + 1).trim());
+            }
+        }
+    }
+
+    private JsonNode json(Map<String, String> event) throws Exception {
+        return objectMapper.readTree(event.get("data"));
+    }
+
+    private TaskResponseDto create(String userId) throws Exception {
+        String body = objectMapper.writeValueAsString(new CreateTaskRequestDto(userId, "Task"));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(""))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readValue(response.body(), TaskResponseDto.class);
+    }
+
+    private void updateStatus(Long id, TaskStatus status) throws Exception {
+        String body = objectMapper.writeValueAsString(new UpdateTaskStatusRequestDto(status));
+        client.send(HttpRequest.newBuilder(uri("/" + id + "/status"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private void delete(Long id) throws Exception {
+        client.send(HttpRequest.newBuilder(uri("/" + id)).DELETE().build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + "/api/v1/task" + path);
+    }
+}
@@ -0,0 +1,150 @@
+package com.yakubovskyi.task.api;
+
+import com.yakubovskyi.task.entity.Task;
+import com.yakubovskyi.task.entity.TaskStatus;
+import com.yakubovskyi.task.manager.UserCache;
+import com.yakubovskyi.task.repository.TaskRepository;
+import com.yakubovskyi.task.support.StubUserService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskWithUserLatencyTest {
+
+    private static final StubUserService userService = StubUserService.start();
+    private static final int CONCURRENT_REQUESTS = 16;
+
+    @DynamicPropertySource
+    static void userServiceProps(DynamicPropertyRegistry registry) {
+        registry.add("user-service.url", userService::url);
+    }
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserCache userCache;
+
+    @SpyBean
+    private TaskRepository taskRepository;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        userService.reset();
+        userCache.invalidateAll();
+        taskRepository.deleteAll();
+        task = taskRepository.save(Task.builder().userId("user-1").title("Task").status(TaskStatus.PENDING).build());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        userService.close();
+    }
+
+    @Test
+    @DisplayName("Should pay for the DB read and the user lookup one after the other without a userId")
+    void getTaskWithUser_Sequential() throws Exception {
+        AtomicInteger userRequestsDuringRead = new AtomicInteger(-1);
+        doAnswer(invocation -> {
+            userRequestsDuringRead.set(userService.requests());
+            return Optional.of(task);
+        }).when(taskRepository).findById(anyLong());
+
+        mvc.perform(get("/api/v1/task/{id}/with-user", task.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.name").value("Stub User"));
+
+        assertThat(userRequestsDuringRead).hasValue(0);
+        assertThat(userService.requests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should overlap the DB read and the user lookup when the userId is known")
+    void getTaskWithKnownUser_Parallel() throws Exception {
+        doAnswer(invocation -> {
+            await().atMost(Duration.ofSeconds(10)).until(() -> userService.requests() == 1);
+            return Optional.of(task);
+        }).when(taskRepository).findById(anyLong());
+
+        MvcResult result = mvc.perform(get("/api/v1/task/{id}/with-user", task.getId()).param("userId", "user-1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(task.getId()))
+                .andExpect(jsonPath("$.user.name").value("Stub User"));
+
+        assertThat(userService.requests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the overlapped latency when more requests arrive than the default task executor has threads")
+    void getTaskWithKnownUser_ConcurrentRequests() throws Exception {
+        Duration delay = Duration.ofMillis(400);
+        userService.setLatency(delay);
+        doAnswer(invocation -> {
+            Thread.sleep(delay.toMillis());
+            return Optional.of(task);
+        }).when(taskRepository).findById(anyLong());
+        withUser();
+        userCache.invalidateAll();
+
+        List<Future<Long>> latencies = new ArrayList<>();
+        try (ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_REQUESTS)) {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                latencies.add(clients.submit(() -> {
+                    long started = System.nanoTime();
+                    withUser();
+                    return Duration.ofNanos(System.nanoTime() - started).toMillis();
+                }));
+            }
+            for (Future<Long> latency : latencies) {
+                assertThat(latency.get(10, TimeUnit.SECONDS)).isLessThan(delay.toMillis() * 3 / 2);
+            }
+        }
+    }
+
+    private void withUser() throws Exception {
+        MvcResult result = mvc.perform(get("/api/v1/task/{id}/with-user", task.getId()).param("userId", "user-1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.name").value("Stub User"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.yakubovskyi.task.benchmark;
+
+import com.yakubovskyi.task.dto.CreateTaskRequestDto;
+import com.yakubovskyi.task.manager.UserManager;
+import com.yakubovskyi.task.repository.TaskRepository;
+import com.yakubovskyi.task.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskInsertBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int WARMUP_ROWS = 2_000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @MockBean
+    private UserManager userManager;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Batch insert throughput vs single inserts")
+    void batchVsSingleInsert() {
+        insertSingle(requests(WARMUP_ROWS));
+        taskService.createTasks(requests(WARMUP_ROWS));
+        taskRepository.deleteAllInBatch();
+
+        double single = rowsPerSecond(() -> insertSingle(requests(ROWS)));
+        double batch = rowsPerSecond(() -> taskService.createTasks(requests(ROWS)));
+
+        System.out.printf("single insert: %,.0f rows/s%n", single);
+        System.out.printf("batch insert:  %,.0f rows/s (%.1fx)%n", batch, batch / single);
+        assertThat(taskRepository.count()).isEqualTo(2L * ROWS);
+    }
+
+    private void insertSingle(List<CreateTaskRequestDto> requests) {
+        requests.forEach(taskService::createTask);
+    }
+
+    private static double rowsPerSecond(Runnable insert) {
+        long start = System.nanoTime();
+        insert.run();
+        return ROWS / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static List<CreateTaskRequestDto> requests(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new CreateTaskRequestDto("user-" + (i % 100), "Task " + i))
+                .toList();
+    }
+}
@@ -0,0 +1,159 @@
+package com.yakubovskyi.task.benchmark;
+
+import com.yakubovskyi.task.TaskApplication;
+import com.yakubovskyi.task.entity.Task;
+import com.yakubovskyi.task.entity.TaskStatus;
+import com.yakubovskyi.task.repository.TaskRepository;
+import com.yakubovskyi.task.support.StubUserService;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int CLIENTS = 500;
+    private static final int TASKS = 100;
+    private static final Duration USER_SERVICE_LATENCY = Duration.ofMillis(20);
+    private static final Duration WARM_UP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+
+    private static StubUserService userService;
+
+    @BeforeAll
+    static void startStubUserService() {
+        userService = StubUserService.start();
+        userService.setLatency(USER_SERVICE_LATENCY);
+    }
+
+    @AfterAll
+    static void stopStubUserService() {
+        userService.close();
+    }
+
+    @Test
+    @DisplayName("Throughput and latency of with-user reads: platform vs virtual threads")
+    void platformVsVirtualThreads() throws Exception {
+        Result platform = run(false);
+        ConcurrentLinkedQueue<String> pinnedAt = new ConcurrentLinkedQueue<>();
+        Result virtual;
+        try (RecordingStream pinning = new RecordingStream()) {
+            pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            pinning.onEvent("jdk.VirtualThreadPinned", event -> pinnedAt.add(event.getStackTrace().getFrames().stream()
+                    .map(RecordedFrame::getMethod)
+                    .filter(method -> !method.getType().getName().matches("^(java|jdk|sun)\\..*"))
+                    .map(method -> method.getType().getName() + "." + method.getName())
+                    .findFirst()
+                    .orElse("jdk")));
+            pinning.startAsync();
+            virtual = run(true);
+            pinning.stop();
+        }
+
+        System.out.printf("%-9s %10s %9s %9s %9s%n", "threads", "req/s", "p50 ms", "p99 ms", "errors");
+        platform.print("platform");
+        virtual.print("virtual");
+        System.out.printf("virtual thread pinning events: %d %s%n", pinnedAt.size(), pinnedAt.stream().distinct().toList());
+        assertThat(pinnedAt).isEmpty();
+    }
+
+    private Result run(boolean virtualThreads) throws InterruptedException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.hikari.maximum-pool-size=20",
+                        "--user-service.url=" + userService.url(),
+                        "--user-service.cache.max-size=0",
+                        "--user-service.resilience.max-concurrent-calls=100",
+                        "--user-service.resilience.timeout=10s",
+                        "--user-service.resilience.circuit-breaker.slow-call-duration-threshold=10s",
+                        "--logging.level.root=WARN")) {
+            TaskRepository taskRepository = context.getBean(TaskRepository.class);
+            List<Long> ids = taskRepository.saveAll(IntStream.range(0, TASKS)
+                            .mapToObj(i -> Task.builder().userId("user-" + i).title("Task " + i).status(TaskStatus.PENDING).build())
+                            .toList())
+                    .stream().map(Task::getId).toList();
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+            drive(port, ids, WARM_UP);
+            return drive(port, ids, MEASUREMENT);
+        }
+    }
+
+    private Result drive(int port, List<Long> ids, Duration duration) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ConcurrentLinkedQueue<long[]> perClient = new ConcurrentLinkedQueue<>();
+        AtomicInteger errors = new AtomicInteger();
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                clients.submit(() -> {
+                    long[] latencies = new long[64];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                        HttpRequest request = HttpRequest.newBuilder(
+                                URI.create("http://localhost:" + port + "/api/v1/task/" + id + "/with-user")).build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException | InterruptedException e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    perClient.add(Arrays.copyOf(latencies, count));
+                });
+            }
+        }
+        long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all.length / (double) duration.toSeconds(), percentile(all, 0.50), percentile(all, 0.99), errors.get());
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis, int errors) {
+        void print(String mode) {
+            System.out.printf("%-9s %,10.0f %9.1f %9.1f %9d%n", mode, throughput, p50Millis, p99Millis, errors);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.yakubovskyi.task.manager;
+
+import com.yakubovskyi.task.config.UserClientResilienceProperties;
+import com.yakubovskyi.task.entity.Task;
+import com.yakubovskyi.task.entity.TaskStatus;
+import com.yakubovskyi.task.repository.TaskRepository;
+import com.yakubovskyi.task.support.StubUserService;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "user-service.resilience.timeout=300ms",
+        "user-service.resilience.max-concurrent-calls=2",
+        "user-service.resilience.hedging.enabled=true",
+        "user-service.resilience.hedging.min-delay=50ms",
+        "user-service.resilience.circuit-breaker.sliding-window-size=4",
+        "user-service.resilience.circuit-breaker.minimum-number-of-calls=4",
+        "user-service.resilience.circuit-breaker.slow-call-duration-threshold=5s",
+        "user-service.resilience.circuit-breaker.wait-duration-in-open-state=1m"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ResilientUserManagerTest {
+
+    private static final StubUserService userService = StubUserService.start();
+
+    @DynamicPropertySource
+    static void userServiceProps(DynamicPropertyRegistry registry) {
+        registry.add("user-service.url", userService::url);
+    }
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ResilientUserManager resilientUserManager;
+
+    @Autowired
+    private UserManager userManager;
+
+    @Autowired
+    private UserClientResilienceProperties resilienceProperties;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CircuitBreaker userServiceCircuitBreaker;
+
+    @Autowired
+    private Bulkhead userServiceBulkhead;
+
+    @BeforeEach
+    void setUp() {
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+                userServiceBulkhead.getMetrics().getAvailableConcurrentCalls() == 2);
+        userService.reset();
+        userServiceCircuitBreaker.reset();
+        userCache.invalidateAll();
+        taskRepository.deleteAll();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        userService.close();
+    }
+
+    @Test
+    @DisplayName("Should return task without user when user-service misses the deadline")
+    void getTaskWithUser_DegradesOnTimeout() throws Exception {
+        Task task = taskRepository.save(Task.builder().userId("user-1").title("Task").status(TaskStatus.PENDING).build());
+        userService.setLatency(Duration.ofSeconds(1));
+
+        mvc.perform(get("/api/v1/task/{id}/with-user", task.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(task.getId()))
+                .andExpect(jsonPath("$.user").isEmpty());
+
+        assertThat(userServiceCircuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer 404 instead of a degraded task when the user does not exist")
+    void getTaskWithUser_NotFoundIsNotDegraded() throws Exception {
+        Task task = taskRepository.save(Task.builder().userId("user-1").title("Task").status(TaskStatus.PENDING).build());
+        userService.setResponseStatus(404);
+
+        mvc.perform(get("/api/v1/task/{id}/with-user", task.getId()))
+                .andExpect(status().isNotFound());
+
+        assertThat(userServiceCircuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should answer from the hedged request when the first one is slow")
+    void getUserById_HedgesSlowCall() {
+        UserClientResilienceProperties properties = new UserClientResilienceProperties();
+        properties.setTimeout(Duration.ofSeconds(30));
+        properties.setHedging(resilienceProperties.getHedging());
+        ResilientUserManager freshLatencyWindow = new ResilientUserManager(
+                userManager, properties, userServiceCircuitBreaker, userServiceBulkhead, environment);
+        userService.enqueueLatency(Duration.ofSeconds(10));
+
+        String name = freshLatencyWindow.getUserById("user-1").join().getName();
+
+        assertThat(name).isEqualTo("Stub User");
+        assertThat(userService.requests()).isEqualTo(2);
+        assertThat(userServiceCircuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+        freshLatencyWindow.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should open the circuit after repeated failures and stop calling user-service")
+    void getUserById_OpensCircuit() {
+        userService.setResponseStatus(500);
+        for (int i = 0; i < 4; i++) {
+            CompletableFuture<?> call = resilientUserManager.getUserById("user-" + i);
+            assertThat(call).failsWithin(10, TimeUnit.SECONDS);
+        }
+
+        CompletableFuture<?> rejected = resilientUserManager.getUserById("user-5");
+
+        assertThat(userServiceCircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(rejected).failsWithin(0, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .withCauseInstanceOf(CallNotPermittedException.class);
+        assertThat(userService.requests()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should reject calls beyond the bulkhead limit immediately")
+    void getUserById_RejectsWhenBulkheadFull() {
+        userService.setLatency(Duration.ofMillis(200));
+
+        resilientUserManager.getUserById("user-1");
+        resilientUserManager.getUserById("user-2");
+        CompletableFuture<?> rejected = resilientUserManager.getUserById("user-3");
+
+        assertThat(rejected).failsWithin(0, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .withCauseInstanceOf(BulkheadFullException.class);
+    }
+}
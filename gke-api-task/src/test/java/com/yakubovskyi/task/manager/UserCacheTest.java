@@ -0,0 +1,64 @@
+package com.yakubovskyi.task.manager;
+
+import com.yakubovskyi.task.config.UserCacheProperties;
+import com.yakubovskyi.task.dto.UserResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserCacheTest {
+
+    private final ResilientUserManager userManager = mock(ResilientUserManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(userManager, new UserCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Concurrent misses for the same id share one remote call")
+    void concurrentMisses_ShareOneCall() {
+        CompletableFuture<UserResponseDto> remoteCall = new CompletableFuture<>();
+        when(userManager.getUserById("user-1")).thenReturn(remoteCall);
+
+        List<CompletableFuture<UserResponseDto>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> userCache.getUserByIdAsync("user-1"))
+                .toList();
+        remoteCall.complete(UserResponseDto.builder().id("user-1").name("John Doe").build());
+
+        assertThat(futures).allSatisfy(future -> assertThat(future.join().getName()).isEqualTo("John Doe"));
+        verify(userManager, times(1)).getUserById("user-1");
+    }
+
+    @Test
+    @DisplayName("Bulk lookups only fetch ids that are not cached yet")
+    void getUsersByIds_FetchesOnlyMisses() {
+        when(userManager.getUserById("user-1")).thenReturn(CompletableFuture.completedFuture(
+                UserResponseDto.builder().id("user-1").name("Alice").build()));
+        when(userManager.getUsersByIds(anyCollection())).thenReturn(CompletableFuture.completedFuture(
+                List.of(UserResponseDto.builder().id("user-2").name("Bob").build())));
+
+        userCache.getUserById("user-1");
+        Map<String, UserResponseDto> users = userCache.getUsersByIds(List.of("user-1", "user-2", "missing"));
+
+        assertThat(users).containsOnlyKeys("user-1", "user-2");
+        verify(userManager).getUsersByIds(Set.of("user-2", "missing"));
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+}
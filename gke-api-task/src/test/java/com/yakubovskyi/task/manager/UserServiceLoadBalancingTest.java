@@ -0,0 +1,95 @@
+package com.yakubovskyi.task.manager;
+
+import com.yakubovskyi.task.support.StubUserService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@SpringBootTest(properties = {
+        "load-balancer.ejection.consecutive-failures=3",
+        "load-balancer.ejection.slow-call-threshold=150ms",
+        "load-balancer.ejection.duration=1s"
+})
+@ActiveProfiles("test")
+class UserServiceLoadBalancingTest {
+
+    private static final Duration EJECTION = Duration.ofSeconds(1);
+
+    private static final StubUserService fast1 = StubUserService.start();
+    private static final StubUserService fast2 = StubUserService.start();
+    private static final StubUserService skewed = StubUserService.start();
+
+    @DynamicPropertySource
+    static void userServiceProps(DynamicPropertyRegistry registry) {
+        registry.add("user-service.url", () -> "");
+        registry.add("load-balancer.instances.user-service", () -> String.join(",",
+                fast1.url(), fast2.url(), skewed.url()));
+    }
+
+    @Autowired
+    private UserManager userManager;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        Thread.sleep(EJECTION.toMillis());
+        Stream.of(fast1, fast2, skewed).forEach(StubUserService::reset);
+        fast1.setLatency(Duration.ofMillis(5));
+        fast2.setLatency(Duration.ofMillis(5));
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        Stream.of(fast1, fast2, skewed).forEach(StubUserService::close);
+    }
+
+    @Test
+    @DisplayName("Should steer concurrent calls away from the slow instance")
+    void getUserById_PrefersLessLoadedInstances() throws InterruptedException {
+        skewed.setLatency(Duration.ofMillis(100));
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            IntStream.range(0, 8).forEach(client -> clients.submit(() -> {
+                for (int i = 0; i < 15; i++) {
+                    userManager.getUserById("user-" + client);
+                }
+            }));
+        }
+
+        int total = fast1.requests() + fast2.requests() + skewed.requests();
+        assertThat(total).isEqualTo(120);
+        assertThat(skewed.requests()).isLessThan(total / 4);
+        assertThat(fast1.requests()).isPositive();
+        assertThat(fast2.requests()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should eject an instance after consecutive failures and keep serving from the others")
+    void getUserById_EjectsFailingInstance() {
+        skewed.setResponseStatus(500);
+
+        List<Throwable> failures = IntStream.range(0, 20)
+                .mapToObj(i -> catchThrowable(() -> userManager.getUserById("user-" + i)))
+                .filter(error -> error != null)
+                .toList();
+
+        assertThat(skewed.requests()).isEqualTo(3);
+        assertThat(failures).hasSize(3);
+        assertThat(fast1.requests() + fast2.requests()).isEqualTo(17);
+    }
+}
@@ -0,0 +1,180 @@
+package com.yakubovskyi.task.manager;
+
+import com.yakubovskyi.task.dto.UserChangeDto;
+import com.yakubovskyi.task.dto.UserChangeType;
+import com.yakubovskyi.task.entity.SyncCheckpoint;
+import com.yakubovskyi.task.entity.Task;
+import com.yakubovskyi.task.entity.TaskStatus;
+import com.yakubovskyi.task.entity.UserSnapshot;
+import com.yakubovskyi.task.repository.SyncCheckpointRepository;
+import com.yakubovskyi.task.repository.TaskRepository;
+import com.yakubovskyi.task.repository.UserSnapshotRepository;
+import com.yakubovskyi.task.service.UserSnapshotService;
+import com.yakubovskyi.task.support.StubUserService;
+import feign.FeignException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "user-snapshot.enabled=true",
+        "user-snapshot.poll-interval=1h",
+        "user-snapshot.batch-size=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserSnapshotSyncTest {
+
+    private static final StubUserService userService = StubUserService.start();
+
+    @DynamicPropertySource
+    static void userServiceProps(DynamicPropertyRegistry registry) {
+        registry.add("user-service.url", userService::url);
+    }
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserSnapshotSync sync;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private SyncCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private UserSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        userService.reset();
+        userCache.invalidateAll();
+        taskRepository.deleteAll();
+        snapshotRepository.deleteAll();
+        checkpointRepository.deleteAll();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        userService.close();
+    }
+
+    @Test
+    @DisplayName("Should catch up on changes made while the user service was unreachable and serve reads locally")
+    void catchUp_AfterDowntime() throws Exception {
+        Task first = taskRepository.save(Task.builder().userId("user-1").title("First").status(TaskStatus.PENDING).build());
+        taskRepository.save(Task.builder().userId("user-2").title("Second").status(TaskStatus.PENDING).build());
+        userService.addChange("UPSERTED", "user-1", "Alice");
+        userService.addChange("UPSERTED", "user-2", "Bob");
+        userService.setResponseStatus(503);
+
+        assertThatThrownBy(sync::catchUp).isInstanceOf(FeignException.class);
+        assertThat(checkpointRepository.count()).isZero();
+
+        userService.setResponseStatus(200);
+        userService.addChange("UPSERTED", "user-1", "Alice Smith");
+        userService.addChange("DELETED", "user-2", null);
+        userService.addChange("UPSERTED", "user-3", "Carol");
+
+        assertThat(sync.catchUp()).isEqualTo(5);
+        assertThat(snapshotRepository.findById("user-1")).get()
+                .extracting(UserSnapshot::getName, UserSnapshot::getSequence)
+                .containsExactly("Alice Smith", 3L);
+        assertThat(snapshotRepository.findById("user-2")).get()
+                .extracting(UserSnapshot::isDeleted)
+                .isEqualTo(true);
+
+        mvc.perform(get("/api/v1/task/{id}/with-user", first.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.name").value("Alice Smith"));
+        mvc.perform(get("/api/v1/task/with-user"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].user.name").value("Alice Smith"))
+                .andExpect(jsonPath("$.items[1].user").doesNotExist());
+        assertThat(userService.requests()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should resume from the stored checkpoint and apply replayed changes idempotently")
+    void catchUp_ReplaysFromCheckpoint() {
+        userService.addChange("UPSERTED", "user-1", "Alice");
+        userService.addChange("UPSERTED", "user-1", "Alice Smith");
+        userService.addChange("UPSERTED", "user-2", "Bob");
+        assertThat(sync.catchUp()).isEqualTo(3);
+
+        checkpointRepository.save(SyncCheckpoint.builder().name(UserSnapshotService.CHECKPOINT).position(1).build());
+        userService.addChange("UPSERTED", "user-2", "Bobby");
+
+        assertThat(sync.catchUp()).isEqualTo(4);
+        assertThat(userService.changeCursors()).containsExactly(0L, 2L, 1L, 3L);
+        assertThat(snapshotRepository.findById("user-1")).get()
+                .extracting(UserSnapshot::getName)
+                .isEqualTo("Alice Smith");
+        assertThat(snapshotRepository.findById("user-2")).get()
+                .extracting(UserSnapshot::getName, UserSnapshot::getSequence)
+                .containsExactly("Bobby", 4L);
+        assertThat(checkpointRepository.findById(UserSnapshotService.CHECKPOINT)).get()
+                .extracting(SyncCheckpoint::getPosition)
+                .isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Should keep newer snapshots and the checkpoint when a lagging batch is applied later")
+    void apply_OutOfOrderBatches() {
+        assertThat(snapshotService.apply(List.of(
+                change(4, UserChangeType.UPSERTED, "user-1", "Alice Smith"),
+                change(5, UserChangeType.DELETED, "user-2", null)), 5)).isEqualTo(5);
+
+        assertThat(snapshotService.apply(List.of(
+                change(1, UserChangeType.UPSERTED, "user-1", "Alice"),
+                change(2, UserChangeType.UPSERTED, "user-2", "Bob"),
+                change(3, UserChangeType.UPSERTED, "user-3", "Carol")), 3)).isEqualTo(5);
+
+        assertThat(snapshotRepository.findById("user-1")).get()
+                .extracting(UserSnapshot::getName, UserSnapshot::getSequence)
+                .containsExactly("Alice Smith", 4L);
+        assertThat(snapshotRepository.findById("user-2")).get()
+                .extracting(UserSnapshot::isDeleted, UserSnapshot::getSequence)
+                .containsExactly(true, 5L);
+        assertThat(snapshotRepository.findById("user-3")).get()
+                .extracting(UserSnapshot::getName)
+                .isEqualTo("Carol");
+        assertThat(snapshotService.getPosition()).isEqualTo(5);
+    }
+
+    private static UserChangeDto change(long sequence, UserChangeType type, String userId, String name) {
+        return UserChangeDto.builder()
+                .sequence(sequence)
+                .type(type)
+                .userId(userId)
+                .name(name)
+                .occurredAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.yakubovskyi.task.service;
+
+import com.yakubovskyi.task.dto.BulkUpdateTaskStatusRequestDto;
+import com.yakubovskyi.task.dto.CreateTaskRequestDto;
+import com.yakubovskyi.task.dto.TaskResponseDto;
+import com.yakubovskyi.task.dto.UpdateTaskStatusRequestDto;
+import com.yakubovskyi.task.entity.TaskStatus;
+import com.yakubovskyi.task.repository.TaskRepository;
+import com.yakubovskyi.task.repository.TaskStatusCounterRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskStatusCounterConcurrencyTest {
+
+    private static final List<String> USERS = List.of("user-1", "user-2", "user-3");
+    private static final int WORKERS = 8;
+    private static final int OPERATIONS = 100;
+    private static final int INITIAL_TASKS = 60;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatusCounterService statusCounterService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusCounterRepository counterRepository;
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger deleted = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+        counterRepository.deleteAllInBatch();
+        created.set(0);
+        deleted.set(0);
+    }
+
+    @Test
+    @DisplayName("Should keep status counters equal to a recount under concurrent writes")
+    void counters_MatchRecountUnderConcurrentWrites() throws Exception {
+        List<Long> ids = taskService.createTasks(IntStream.range(0, INITIAL_TASKS)
+                        .mapToObj(i -> new CreateTaskRequestDto(USERS.get(i % USERS.size()), "Task " + i))
+                        .toList())
+                .stream().map(TaskResponseDto::getId).toList();
+
+        try (ExecutorService workers = Executors.newFixedThreadPool(WORKERS)) {
+            List<Future<?>> results = IntStream.range(0, WORKERS)
+                    .<Future<?>>mapToObj(w -> workers.submit(() -> {
+                        for (int i = 0; i < OPERATIONS; i++) {
+                            randomOperation(ids);
+                        }
+                    }))
+                    .toList();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+
+        long expectedTotal = INITIAL_TASKS + created.get() - deleted.get();
+        assertThat(deleted.get()).isPositive();
+        assertThat(taskRepository.count()).isEqualTo(expectedTotal);
+        assertThat(statusCounterService.getSummary(false).getTotal()).isEqualTo(expectedTotal);
+        assertThat(statusCounterService.getSummary(false)).isEqualTo(statusCounterService.getSummary(true));
+        for (String userId : USERS) {
+            assertThat(statusCounterService.getSummary(userId, false))
+                    .isEqualTo(statusCounterService.getSummary(userId, true));
+        }
+    }
+
+    private void randomOperation(List<Long> ids) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        TaskStatus status = TaskStatus.values()[random.nextInt(TaskStatus.values().length)];
+        String userId = USERS.get(random.nextInt(USERS.size()));
+        Long id = ids.get(random.nextInt(ids.size()));
+        Long otherId = ids.get(random.nextInt(ids.size()));
+        try {
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    taskService.createTask(new CreateTaskRequestDto(userId, "Task"));
+                    created.incrementAndGet();
+                }
+                case 1 -> {
+                    taskService.deleteTask(id);
+                    deleted.incrementAndGet();
+                }
+                case 2 -> taskService.updateTasksStatus(BulkUpdateTaskStatusRequestDto.builder()
+                        .ids(List.of(id, otherId))
+                        .status(status)
+                        .build());
+                case 3 -> taskService.updateTasksStatus(BulkUpdateTaskStatusRequestDto.builder()
+                        .userId(userId)
+                        .fromStatus(TaskStatus.PENDING)
+                        .status(status)
+                        .build());
+                default -> taskService.updateTaskStatus(id, new UpdateTaskStatusRequestDto(status));
+            }
+        } catch (EntityNotFoundException e) {
+            assertThat(taskRepository.existsById(id) && taskRepository.existsById(otherId))
+                    .as("not found only for a task deleted by another worker: %s", e.getMessage())
+                    .isFalse();
+        }
+    }
+}
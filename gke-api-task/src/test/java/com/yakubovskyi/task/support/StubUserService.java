@@ -0,0 +1,146 @@
+package com.yakubovskyi.task.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StubUserService implements AutoCloseable {
+
+    private static final String USER_PATH = "/api/v1/user/";
+    private static final String USER_CHANGES_PATH = "/api/v1/user-changes";
+
+    private final HttpServer server;
+    private final ConcurrentLinkedQueue<Duration> queuedLatencies = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Map<String, String> responseHeaders = new ConcurrentHashMap<>();
+    private final List<String> changes = new CopyOnWriteArrayList<>();
+    private final List<Long> changeCursors = new CopyOnWriteArrayList<>();
+    private volatile Map<String, String> lastRequestHeaders = Map.of();
+    private volatile Duration latency = Duration.ZERO;
+    private volatile int responseStatus = 200;
+
+    private StubUserService(HttpServer server) {
+        this.server = server;
+    }
+
+    public static StubUserService start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+            StubUserService stub = new StubUserService(server);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext(USER_PATH, stub::handle);
+            server.createContext(USER_CHANGES_PATH, stub::handleChanges);
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    public void enqueueLatency(Duration latency) {
+        queuedLatencies.add(latency);
+    }
+
+    public void setResponseStatus(int responseStatus) {
+        this.responseStatus = responseStatus;
+    }
+
+    public void setResponseHeader(String name, String value) {
+        responseHeaders.put(name, value);
+    }
+
+    public synchronized long addChange(String type, String userId, String name) {
+        long sequence = changes.size() + 1;
+        changes.add("{\"sequence\":" + sequence + ",\"type\":\"" + type + "\",\"userId\":\"" + userId
+                + "\",\"name\":" + (name == null ? "null" : "\"" + name + "\"") + "}");
+        return sequence;
+    }
+
+    public List<Long> changeCursors() {
+        return List.copyOf(changeCursors);
+    }
+
+    public int requests() {
+        return requests.get();
+    }
+
+    public String lastRequestHeader(String name) {
+        return lastRequestHeaders.get(name.toLowerCase());
+    }
+
+    public void reset() {
+        queuedLatencies.clear();
+        requests.set(0);
+        changes.clear();
+        changeCursors.clear();
+        responseHeaders.clear();
+        lastRequestHeaders = Map.of();
+        latency = Duration.ZERO;
+        responseStatus = 200;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handleChanges(HttpExchange exchange) throws IOException {
+        Map<String, String> query = new ConcurrentHashMap<>();
+        for (String param : exchange.getRequestURI().getQuery().split("&")) {
+            String[] pair = param.split("=", 2);
+            query.put(pair[0], pair[1]);
+        }
+        long after = Long.parseLong(query.get("after"));
+        int limit = Integer.parseInt(query.get("limit"));
+        changeCursors.add(after);
+        List<String> page = changes.stream().skip(after).limit(limit).toList();
+        byte[] body = ("{\"items\":[" + String.join(",", page) + "],\"nextCursor\":" + (after + page.size()) + "}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(responseStatus, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        Map<String, String> headers = new ConcurrentHashMap<>();
+        exchange.getRequestHeaders().forEach((name, values) -> headers.put(name.toLowerCase(), String.join(",", values)));
+        lastRequestHeaders = headers;
+        Duration delay = queuedLatencies.poll();
+        try {
+            Thread.sleep(delay != null ? delay : latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String id = exchange.getRequestURI().getPath().substring(USER_PATH.length());
+        byte[] body = ("{\"id\":\"" + id + "\",\"name\":\"Stub User\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        responseHeaders.forEach(exchange.getResponseHeaders()::add);
+        exchange.sendResponseHeaders(responseStatus, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
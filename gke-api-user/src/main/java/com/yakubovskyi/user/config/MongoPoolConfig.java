@@ -0,0 +1,22 @@
+package com.yakubovskyi.user.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MongoPoolConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoPoolCustomizer(
+            @Value("${mongo.pool.max-size:100}") int maxSize,
+            @Value("${mongo.pool.max-wait-time:3s}") Duration maxWaitTime) {
+        return settings -> settings.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxSize)
+                .maxWaitTime(maxWaitTime.toMillis(), TimeUnit.MILLISECONDS));
+    }
+}
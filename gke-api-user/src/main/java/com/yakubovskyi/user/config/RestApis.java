@@ -2,4 +2,5 @@ package com.yakubovskyi.user.config;
 
 public class RestApis {
     public static final String USER = "/api/v1/user";
+    public static final String USER_CHANGES = "/api/v1/user-changes";
 }
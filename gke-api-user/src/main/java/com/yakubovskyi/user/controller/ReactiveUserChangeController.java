@@ -0,0 +1,31 @@
+package com.yakubovskyi.user.controller;
+
+import com.yakubovskyi.user.config.RestApis;
+import com.yakubovskyi.user.dto.PageResponseDto;
+import com.yakubovskyi.user.dto.UserChangeDto;
+import com.yakubovskyi.user.service.ReactiveUserChangeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+@RequestMapping(RestApis.USER_CHANGES)
+@RequiredArgsConstructor
+public class ReactiveUserChangeController {
+
+    private final ReactiveUserChangeService userChangeService;
+
+    @GetMapping
+    public Mono<ResponseEntity<PageResponseDto<UserChangeDto>>> getChanges(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "500") int limit) {
+        return userChangeService.getChanges(after, limit)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,104 @@
+package com.yakubovskyi.user.controller;
+
+import com.yakubovskyi.user.config.RestApis;
+import com.yakubovskyi.user.dto.BulkImportUsersResponseDto;
+import com.yakubovskyi.user.dto.CreateUserRequestDto;
+import com.yakubovskyi.user.dto.UserPageResponseDto;
+import com.yakubovskyi.user.dto.UserResponseDto;
+import com.yakubovskyi.user.service.ReactiveUserImportService;
+import com.yakubovskyi.user.service.ReactiveUserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@Profile("reactive")
+@RequestMapping(RestApis.USER)
+@RequiredArgsConstructor
+public class ReactiveUserController {
+
+    private final ReactiveUserService userService;
+    private final ReactiveUserImportService userImportService;
+
+    @PostMapping
+    public Mono<ResponseEntity<UserResponseDto>> createUser(@RequestBody CreateUserRequestDto request) {
+        return userService.createUser(request)
+                .map(user -> ResponseEntity.status(HttpStatus.CREATED).body(user));
+    }
+
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<BulkImportUsersResponseDto>> importUsers(
+            @RequestBody Flux<DataBuffer> body,
+            @RequestParam(defaultValue = "false") boolean upsert) {
+        return userImportService.importUsers(body, upsert)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping
+    public ResponseEntity<Flux<UserResponseDto>> getAllUsers() {
+        return ResponseEntity.ok(userService.getAllUsers());
+    }
+
+    @GetMapping("/page")
+    public Mono<ResponseEntity<UserPageResponseDto>> getUsersPage(
+            @RequestParam(required = false) String afterId,
+            @RequestParam(defaultValue = "100") int limit) {
+        return userService.getUsersPage(afterId, limit)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserResponseDto> exportUsers() {
+        return userService.streamAllUsers();
+    }
+
+    @GetMapping("/by-email/{email}")
+    public Mono<ResponseEntity<UserResponseDto>> getUserByEmail(@PathVariable String email) {
+        return userService.getUserByEmail(email)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<Flux<UserResponseDto>> getUsersByIds(@RequestParam List<String> ids) {
+        return ResponseEntity.ok(userService.getUsersByIds(ids));
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<Flux<UserResponseDto>> lookupUsers(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(userService.getUsersByIds(ids));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<UserResponseDto>> getUserById(@PathVariable String id) {
+        return userService.getUserById(id)
+                .map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<UserResponseDto>> updateUser(@PathVariable String id, @RequestBody CreateUserRequestDto request) {
+        return userService.updateUser(id, request)
+                .map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteUser(@PathVariable String id) {
+        return userService.deleteUser(id)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.yakubovskyi.user.controller;
+
+import com.yakubovskyi.user.config.RestApis;
+import com.yakubovskyi.user.dto.PageResponseDto;
+import com.yakubovskyi.user.dto.UserChangeDto;
+import com.yakubovskyi.user.service.UserChangeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping(RestApis.USER_CHANGES)
+@RequiredArgsConstructor
+public class UserChangeController {
+
+    private final UserChangeService userChangeService;
+
+    @GetMapping
+    public ResponseEntity<PageResponseDto<UserChangeDto>> getChanges(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(userChangeService.getChanges(after, limit));
+    }
+}
@@ -1,11 +1,20 @@
 package com.yakubovskyi.user.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.yakubovskyi.user.config.RestApis;
+import com.yakubovskyi.user.dto.BulkImportUsersResponseDto;
 import com.yakubovskyi.user.dto.CreateUserRequestDto;
+import com.yakubovskyi.user.dto.UserPageResponseDto;
 import com.yakubovskyi.user.dto.UserResponseDto;
+import com.yakubovskyi.user.service.UserImportService;
 import com.yakubovskyi.user.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,27 +23,78 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping(RestApis.USER)
 @RequiredArgsConstructor
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<UserResponseDto> createUser(@RequestBody CreateUserRequestDto request) {
         return ResponseEntity.status(HttpStatus.CREATED).body(userService.createUser(request));
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkImportUsersResponseDto> importUsers(
+            HttpServletRequest request,
+            @RequestParam(defaultValue = "false") boolean upsert) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(request.getInputStream(), upsert));
+    }
+
     @GetMapping
     public ResponseEntity<List<UserResponseDto>> getAllUsers() {
         return ResponseEntity.ok(userService.getAllUsers());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<UserPageResponseDto> getUsersPage(
+            @RequestParam(required = false) String afterId,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(userService.getUsersPage(afterId, limit));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportUsers(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (SequenceWriter writer = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .writeValues(response.getOutputStream())) {
+            userService.streamAllUsers(user -> {
+                try {
+                    writer.write(user);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @GetMapping("/by-email/{email}")
+    public ResponseEntity<UserResponseDto> getUserByEmail(@PathVariable String email) {
+        return ResponseEntity.ok(userService.getUserByEmail(email));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<UserResponseDto>> getUsersByIds(@RequestParam List<String> ids) {
+        return ResponseEntity.ok(userService.getUsersByIds(ids));
+    }
+
+    @PostMapping("/lookup")
+    public ResponseEntity<List<UserResponseDto>> lookupUsers(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(userService.getUsersByIds(ids));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UserResponseDto> getUserById(@PathVariable String id) {
         return ResponseEntity.ok(userService.getUserById(id));
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Data
@@ -17,5 +18,6 @@ public class User {
     @Id
     private String id;
     private String name;
+    @Indexed(unique = true, sparse = true)
     private String email;
 }
@@ -0,0 +1,26 @@
+package com.yakubovskyi.user.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "user_changes")
+public class UserChange {
+
+    @Id
+    private Long sequence;
+    private UserChangeType type;
+    private String userId;
+    private String name;
+    private String email;
+    private Instant occurredAt;
+}
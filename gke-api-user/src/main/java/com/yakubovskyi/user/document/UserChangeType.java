@@ -0,0 +1,6 @@
+package com.yakubovskyi.user.document;
+
+public enum UserChangeType {
+    UPSERTED,
+    DELETED
+}
@@ -0,0 +1,16 @@
+package com.yakubovskyi.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportErrorDto {
+    private int index;
+    private String email;
+    private String message;
+}
@@ -0,0 +1,19 @@
+package com.yakubovskyi.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportUsersResponseDto {
+    private int received;
+    private int inserted;
+    private int updated;
+    private List<BulkImportErrorDto> errors;
+}
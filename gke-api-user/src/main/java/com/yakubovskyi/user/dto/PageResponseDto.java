@@ -0,0 +1,17 @@
+package com.yakubovskyi.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponseDto<T> {
+    private List<T> items;
+    private Long nextCursor;
+}
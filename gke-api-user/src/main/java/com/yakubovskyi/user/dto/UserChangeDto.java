@@ -0,0 +1,22 @@
+package com.yakubovskyi.user.dto;
+
+import com.yakubovskyi.user.document.UserChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeDto {
+    private Long sequence;
+    private UserChangeType type;
+    private String userId;
+    private String name;
+    private String email;
+    private Instant occurredAt;
+}
@@ -0,0 +1,13 @@
+package com.yakubovskyi.user.repository;
+
+import com.yakubovskyi.user.document.UserChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ReactiveUserChangeRepository extends ReactiveMongoRepository<UserChange, Long> {
+
+    Flux<UserChange> findBySequenceGreaterThanOrderBySequenceAsc(Long sequence, Limit limit);
+}
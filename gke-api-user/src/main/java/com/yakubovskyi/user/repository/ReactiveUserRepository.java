@@ -0,0 +1,28 @@
+package com.yakubovskyi.user.repository;
+
+import com.yakubovskyi.user.document.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.Meta;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+@Repository
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String> {
+
+    Mono<User> findByEmail(String email);
+
+    Flux<User> findByEmailIn(Collection<String> emails);
+
+    Flux<User> findAllByOrderByIdAsc(Limit limit);
+
+    Flux<User> findByIdGreaterThanOrderByIdAsc(String afterId, Limit limit);
+
+    @Meta(cursorBatchSize = 500)
+    @Query(value = "{}", sort = "{ _id: 1 }")
+    Flux<User> streamAll();
+}
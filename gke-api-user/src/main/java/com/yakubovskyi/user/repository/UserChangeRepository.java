@@ -0,0 +1,14 @@
+package com.yakubovskyi.user.repository;
+
+import com.yakubovskyi.user.document.UserChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserChangeRepository extends MongoRepository<UserChange, Long> {
+
+    List<UserChange> findBySequenceGreaterThanOrderBySequenceAsc(Long sequence, Limit limit);
+}
@@ -1,9 +1,29 @@
 package com.yakubovskyi.user.repository;
 
 import com.yakubovskyi.user.document.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface UserRepository extends MongoRepository<User, String> {
+
+    Optional<User> findByEmail(String email);
+
+    List<User> findByEmailIn(Collection<String> emails);
+
+    List<User> findAllByOrderByIdAsc(Limit limit);
+
+    List<User> findByIdGreaterThanOrderByIdAsc(String afterId, Limit limit);
+
+    @Meta(cursorBatchSize = 500)
+    @Query(value = "{}", sort = "{ _id: 1 }")
+    Stream<User> streamAll();
 }
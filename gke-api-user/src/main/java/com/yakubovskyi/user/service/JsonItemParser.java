@@ -0,0 +1,104 @@
+package com.yakubovskyi.user.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+class JsonItemParser<T> {
+
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private TokenBuffer tokens;
+    private boolean started;
+    private boolean array;
+    private int depth;
+
+    private JsonItemParser(ObjectMapper objectMapper, Class<T> type) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.tokens = new TokenBuffer(parser);
+    }
+
+    static <T> Flux<T> parse(Flux<DataBuffer> body, ObjectMapper objectMapper, Class<T> type) {
+        return Flux.defer(() -> {
+            JsonItemParser<T> items = new JsonItemParser<>(objectMapper, type);
+            return body.concatMap(items::feed)
+                    .concatWith(Flux.defer(items::end));
+        });
+    }
+
+    private Flux<T> feed(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return drain(() -> feeder.feedInput(bytes, 0, bytes.length));
+    }
+
+    private Flux<T> end() {
+        return drain(feeder::endOfInput);
+    }
+
+    private Flux<T> drain(Input input) {
+        List<T> items = new ArrayList<>();
+        try {
+            input.feed();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                T item = next(token);
+                if (item != null) {
+                    items.add(item);
+                }
+            }
+        } catch (IOException e) {
+            return Flux.fromIterable(items).concatWith(Flux.error(e));
+        }
+        return Flux.fromIterable(items);
+    }
+
+    private T next(JsonToken token) throws IOException {
+        if (!started) {
+            started = true;
+            if (token == JsonToken.START_ARRAY) {
+                array = true;
+                return null;
+            }
+        }
+        if (array && depth == 0 && token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        tokens.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+            depth++;
+        } else if (token.isStructEnd()) {
+            depth--;
+        }
+        if (depth > 0) {
+            return null;
+        }
+        T item = objectMapper.readValue(tokens.asParser(objectMapper), type);
+        tokens = new TokenBuffer(parser);
+        return item;
+    }
+
+    private interface Input {
+        void feed() throws IOException;
+    }
+}
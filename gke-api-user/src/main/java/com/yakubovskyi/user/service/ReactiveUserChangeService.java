@@ -0,0 +1,160 @@
+package com.yakubovskyi.user.service;
+
+import com.yakubovskyi.user.document.User;
+import com.yakubovskyi.user.document.UserChange;
+import com.yakubovskyi.user.document.UserChangeType;
+import com.yakubovskyi.user.dto.PageResponseDto;
+import com.yakubovskyi.user.dto.UserChangeDto;
+import com.yakubovskyi.user.repository.ReactiveUserChangeRepository;
+import com.yakubovskyi.user.repository.ReactiveUserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.yakubovskyi.user.service.UserChangeService.MAX_PAGE_LIMIT;
+import static com.yakubovskyi.user.service.UserChangeService.SEQUENCES;
+
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveUserChangeService implements SmartLifecycle {
+
+    private final ReactiveUserChangeRepository userChangeRepository;
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final Duration gapTimeout;
+    private final int backfillBatchSize;
+    private final Duration backfillLease;
+    private volatile boolean running;
+
+    public ReactiveUserChangeService(ReactiveUserChangeRepository userChangeRepository,
+                                     ReactiveUserRepository userRepository,
+                                     ReactiveMongoTemplate mongoTemplate,
+                                     @Value("${user-changes.gap-timeout:5s}") Duration gapTimeout,
+                                     @Value("${user-changes.backfill-batch-size:1000}") int backfillBatchSize,
+                                     @Value("${user-changes.backfill-lease:30s}") Duration backfillLease) {
+        this.userChangeRepository = userChangeRepository;
+        this.userRepository = userRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.gapTimeout = gapTimeout;
+        this.backfillBatchSize = backfillBatchSize;
+        this.backfillLease = backfillLease;
+    }
+
+    public Mono<Void> recordUpsert(User user) {
+        return recordUpserts(List.of(user));
+    }
+
+    public Mono<Void> recordDelete(String userId) {
+        return record(UserChangeType.DELETED, userId, null, null);
+    }
+
+    public Mono<PageResponseDto<UserChangeDto>> getChanges(long after, int limit) {
+        return userChangeRepository.findBySequenceGreaterThanOrderBySequenceAsc(
+                        after, Limit.of(Math.clamp(limit, 1, MAX_PAGE_LIMIT)))
+                .collectList()
+                .map(changes -> UserChangeService.contiguousPage(changes, after, gapTimeout));
+    }
+
+    @Override
+    public void start() {
+        backfill().block();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return UserChangeService.BACKFILL_PHASE;
+    }
+
+    private Mono<Void> backfill() {
+        return mongoTemplate.upsert(UserChangeService.sequenceQuery(), new Update().setOnInsert("value", 0L), SEQUENCES)
+                .then(mongoTemplate.findAndModify(UserChangeService.backfillClaimQuery(),
+                        UserChangeService.renewLease(backfillLease), FindAndModifyOptions.options().returnNew(true),
+                        Document.class, SEQUENCES))
+                .flatMap(claim -> backfillFrom(claim.getString(UserChangeService.BACKFILL_CURSOR), 0))
+                .flatMap(backfilled -> mongoTemplate.updateFirst(UserChangeService.sequenceQuery(),
+                                UserChangeService.backfillDone(), SEQUENCES)
+                        .doOnSuccess(done -> log.info("Backfilled user change feed with {} existing users", backfilled)))
+                .then();
+    }
+
+    private Mono<Long> backfillFrom(String cursor, long backfilled) {
+        Limit limit = Limit.of(backfillBatchSize);
+        return (cursor == null
+                ? userRepository.findAllByOrderByIdAsc(limit)
+                : userRepository.findByIdGreaterThanOrderByIdAsc(cursor, limit))
+                .collectList()
+                .flatMap(users -> {
+                    if (users.isEmpty()) {
+                        return Mono.just(backfilled);
+                    }
+                    String next = users.getLast().getId();
+                    Mono<Void> recorded = recordUpserts(users)
+                            .then(mongoTemplate.updateFirst(UserChangeService.sequenceQuery(),
+                                    UserChangeService.renewLease(backfillLease)
+                                            .set(UserChangeService.BACKFILL_CURSOR, next), SEQUENCES))
+                            .then();
+                    return users.size() < backfillBatchSize
+                            ? recorded.thenReturn(backfilled + users.size())
+                            : recorded.then(Mono.defer(() -> backfillFrom(next, backfilled + users.size())));
+                });
+    }
+
+    public Mono<Void> recordUpserts(List<User> users) {
+        if (users.isEmpty()) {
+            return Mono.empty();
+        }
+        List<String> userIds = UserChangeService.ids(users);
+        return allocateSequences(users.size())
+                .flatMap(last -> userRepository.findAllById(userIds).collectList()
+                        .map(current -> UserChangeService.upserts(userIds, current, last)))
+                .flatMapMany(userChangeRepository::insert)
+                .then();
+    }
+
+    private Mono<Void> record(UserChangeType type, String userId, String name, String email) {
+        return allocateSequences(1)
+                .flatMap(sequence -> userChangeRepository.insert(UserChange.builder()
+                        .sequence(sequence)
+                        .type(type)
+                        .userId(userId)
+                        .name(name)
+                        .email(email)
+                        .occurredAt(Instant.now())
+                        .build()))
+                .then();
+    }
+
+    private Mono<Long> allocateSequences(int count) {
+        return mongoTemplate.findAndModify(
+                        UserChangeService.sequenceQuery(),
+                        new Update().inc("value", (long) count),
+                        FindAndModifyOptions.options().upsert(true).returnNew(true),
+                        Document.class,
+                        SEQUENCES)
+                .map(sequence -> ((Number) sequence.get("value")).longValue());
+    }
+}
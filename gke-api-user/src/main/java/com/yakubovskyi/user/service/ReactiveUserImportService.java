@@ -0,0 +1,138 @@
+package com.yakubovskyi.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoBulkWriteException;
+import com.yakubovskyi.user.document.User;
+import com.yakubovskyi.user.dto.BulkImportErrorDto;
+import com.yakubovskyi.user.dto.BulkImportUsersResponseDto;
+import com.yakubovskyi.user.dto.CreateUserRequestDto;
+import com.yakubovskyi.user.repository.ReactiveUserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@Service
+@Profile("reactive")
+@Timed(value = "user.import", histogram = true)
+public class ReactiveUserImportService {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveUserChangeService userChangeService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public ReactiveUserImportService(ReactiveMongoTemplate mongoTemplate,
+                                     ReactiveUserRepository userRepository,
+                                     ReactiveUserChangeService userChangeService,
+                                     ObjectMapper objectMapper,
+                                     @Value("${user-import.batch-size:1000}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.userRepository = userRepository;
+        this.userChangeService = userChangeService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    public Mono<BulkImportUsersResponseDto> importUsers(Flux<DataBuffer> body, boolean upsert) {
+        BulkImportUsersResponseDto result = BulkImportUsersResponseDto.builder()
+                .errors(new ArrayList<>())
+                .build();
+        AtomicInteger decoded = new AtomicInteger();
+        List<BulkImportErrorDto> malformed = new ArrayList<>(1);
+        return JsonItemParser.parse(body, objectMapper, CreateUserRequestDto.class)
+                .doOnNext(request -> decoded.incrementAndGet())
+                .onErrorResume(JsonProcessingException.class, e -> {
+                    malformed.add(BulkImportErrorDto.builder()
+                            .index(decoded.get())
+                            .message("Malformed item, import stopped: " + e.getOriginalMessage())
+                            .build());
+                    return Flux.empty();
+                })
+                .buffer(batchSize)
+                .concatMap(batch -> write(batch, upsert, result))
+                .then(Mono.fromSupplier(() -> {
+                    result.getErrors().addAll(malformed);
+                    result.getErrors().sort(Comparator.comparingInt(BulkImportErrorDto::getIndex));
+                    return result;
+                }));
+    }
+
+    private Mono<Void> write(List<CreateUserRequestDto> batch, boolean upsert, BulkImportUsersResponseDto result) {
+        ReactiveBulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+        List<User> users = new ArrayList<>(batch.size());
+        for (CreateUserRequestDto request : batch) {
+            User user = User.builder()
+                    .name(request.getName())
+                    .email(request.getEmail())
+                    .build();
+            if (upsert && request.getEmail() != null) {
+                operations.upsert(Query.query(Criteria.where("email").is(request.getEmail())),
+                        Update.update("name", request.getName()));
+            } else {
+                user.setId(new ObjectId().toHexString());
+                operations.insert(user);
+            }
+            users.add(user);
+        }
+        Set<Integer> failed = new HashSet<>();
+        return operations.execute()
+                .onErrorResume(e -> e.getCause() instanceof MongoBulkWriteException, e -> {
+                    MongoBulkWriteException bulkException = (MongoBulkWriteException) e.getCause();
+                    bulkException.getWriteErrors().forEach(error -> {
+                        failed.add(error.getIndex());
+                        result.getErrors().add(UserImportService.itemError(result, batch, error));
+                    });
+                    return Mono.just(bulkException.getWriteResult());
+                })
+                .flatMap(writeResult -> {
+                    UserImportService.tally(result, users, failed, writeResult);
+                    return written(users, failed);
+                })
+                .flatMap(userChangeService::recordUpserts);
+    }
+
+    private Mono<List<User>> written(List<User> users, Set<Integer> failed) {
+        List<User> written = new ArrayList<>(users.size());
+        List<String> upsertedEmails = new ArrayList<>();
+        IntStream.range(0, users.size())
+                .filter(i -> !failed.contains(i))
+                .mapToObj(users::get)
+                .forEach(user -> {
+                    if (user.getId() != null) {
+                        written.add(user);
+                    } else {
+                        upsertedEmails.add(user.getEmail());
+                    }
+                });
+        if (upsertedEmails.isEmpty()) {
+            return Mono.just(written);
+        }
+        return userRepository.findByEmailIn(upsertedEmails)
+                .collectList()
+                .map(upserted -> {
+                    written.addAll(upserted);
+                    return written;
+                });
+    }
+}
@@ -0,0 +1,117 @@
+package com.yakubovskyi.user.service;
+
+import com.yakubovskyi.user.document.User;
+import com.yakubovskyi.user.dto.CreateUserRequestDto;
+import com.yakubovskyi.user.dto.UserPageResponseDto;
+import com.yakubovskyi.user.dto.UserResponseDto;
+import com.yakubovskyi.user.repository.ReactiveUserRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+import static com.yakubovskyi.user.service.UserService.MAX_PAGE_LIMIT;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Timed(value = "user.service", histogram = true)
+public class ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveUserChangeService userChangeService;
+
+    public Mono<UserResponseDto> createUser(CreateUserRequestDto request) {
+        User user = User.builder()
+                .name(request.getName())
+                .email(request.getEmail())
+                .build();
+        return save(user)
+                .flatMap(savedUser -> userChangeService.recordUpsert(savedUser).thenReturn(savedUser))
+                .map(this::mapToResponse);
+    }
+
+    public Flux<UserResponseDto> getAllUsers() {
+        return userRepository.findAll()
+                .map(this::mapToResponse);
+    }
+
+    public Mono<UserPageResponseDto> getUsersPage(String afterId, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_LIMIT);
+        Flux<User> users = afterId == null
+                ? userRepository.findAllByOrderByIdAsc(Limit.of(pageSize))
+                : userRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize));
+        return users.collectList()
+                .map(page -> UserPageResponseDto.builder()
+                        .items(page.stream().map(this::mapToResponse).toList())
+                        .nextCursor(page.size() == pageSize ? page.get(page.size() - 1).getId() : null)
+                        .build());
+    }
+
+    public Flux<UserResponseDto> streamAllUsers() {
+        return userRepository.streamAll()
+                .map(this::mapToResponse);
+    }
+
+    public Flux<UserResponseDto> getUsersByIds(Collection<String> ids) {
+        return userRepository.findAllById(ids)
+                .map(this::mapToResponse);
+    }
+
+    public Mono<UserResponseDto> getUserById(String id) {
+        return byIdOrThrow(id)
+                .map(this::mapToResponse);
+    }
+
+    public Mono<UserResponseDto> getUserByEmail(String email) {
+        return userRepository.findByEmail(email)
+                .switchIfEmpty(Mono.error(() ->
+                        new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found with email: " + email)))
+                .map(this::mapToResponse);
+    }
+
+    private Mono<User> byIdOrThrow(String id) {
+        return userRepository.findById(id)
+                .switchIfEmpty(Mono.error(() ->
+                        new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found with id: " + id)));
+    }
+
+    public Mono<UserResponseDto> updateUser(String id, CreateUserRequestDto request) {
+        return byIdOrThrow(id)
+                .flatMap(user -> {
+                    user.setName(request.getName());
+                    user.setEmail(request.getEmail());
+                    return save(user);
+                })
+                .flatMap(updatedUser -> userChangeService.recordUpsert(updatedUser).thenReturn(updatedUser))
+                .map(this::mapToResponse);
+    }
+
+    public Mono<Void> deleteUser(String id) {
+        return byIdOrThrow(id)
+                .flatMap(userRepository::delete)
+                .then(userChangeService.recordDelete(id));
+    }
+
+    private Mono<User> save(User user) {
+        return userRepository.save(user)
+                .onErrorMap(DuplicateKeyException.class, e ->
+                        new ResponseStatusException(HttpStatus.CONFLICT, "User already exists with email: " + user.getEmail()));
+    }
+
+    UserResponseDto mapToResponse(User user) {
+        return UserResponseDto.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .build();
+    }
+}
@@ -0,0 +1,229 @@
+package com.yakubovskyi.user.service;
+
+import com.yakubovskyi.user.document.User;
+import com.yakubovskyi.user.document.UserChange;
+import com.yakubovskyi.user.document.UserChangeType;
+import com.yakubovskyi.user.dto.PageResponseDto;
+import com.yakubovskyi.user.dto.UserChangeDto;
+import com.yakubovskyi.user.repository.UserChangeRepository;
+import com.yakubovskyi.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Service
+@Profile("!reactive")
+public class UserChangeService implements SmartLifecycle {
+
+    public static final int MAX_PAGE_LIMIT = 1000;
+
+    static final String SEQUENCES = "sequences";
+    static final String BACKFILLED = "backfilled";
+    static final String BACKFILL_CURSOR = "backfillCursor";
+    static final String BACKFILL_LEASE = "backfillLeaseUntil";
+    static final int BACKFILL_PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    private static final String USER_CHANGES = "user_changes";
+
+    private final UserChangeRepository userChangeRepository;
+    private final UserRepository userRepository;
+    private final MongoTemplate mongoTemplate;
+    private final Duration gapTimeout;
+    private final int backfillBatchSize;
+    private final Duration backfillLease;
+    private volatile boolean running;
+
+    public UserChangeService(UserChangeRepository userChangeRepository,
+                             UserRepository userRepository,
+                             MongoTemplate mongoTemplate,
+                             @Value("${user-changes.gap-timeout:5s}") Duration gapTimeout,
+                             @Value("${user-changes.backfill-batch-size:1000}") int backfillBatchSize,
+                             @Value("${user-changes.backfill-lease:30s}") Duration backfillLease) {
+        this.userChangeRepository = userChangeRepository;
+        this.userRepository = userRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.gapTimeout = gapTimeout;
+        this.backfillBatchSize = backfillBatchSize;
+        this.backfillLease = backfillLease;
+    }
+
+    public void recordUpsert(User user) {
+        recordUpserts(List.of(user));
+    }
+
+    public void recordDelete(String userId) {
+        record(UserChangeType.DELETED, userId, null, null);
+    }
+
+    public PageResponseDto<UserChangeDto> getChanges(long after, int limit) {
+        return contiguousPage(userChangeRepository.findBySequenceGreaterThanOrderBySequenceAsc(
+                after, Limit.of(Math.clamp(limit, 1, MAX_PAGE_LIMIT))), after, gapTimeout);
+    }
+
+    static PageResponseDto<UserChangeDto> contiguousPage(List<UserChange> changes, long after, Duration gapTimeout) {
+        Instant settled = Instant.now().minus(gapTimeout);
+        List<UserChangeDto> items = new ArrayList<>(changes.size());
+        long cursor = after;
+        for (UserChange change : changes) {
+            if (change.getSequence() != cursor + 1 && change.getOccurredAt().isAfter(settled)) {
+                break;
+            }
+            items.add(mapToDto(change));
+            cursor = change.getSequence();
+        }
+        return PageResponseDto.<UserChangeDto>builder()
+                .items(items)
+                .nextCursor(cursor)
+                .build();
+    }
+
+    @Override
+    public void start() {
+        backfill();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return BACKFILL_PHASE;
+    }
+
+    private void backfill() {
+        mongoTemplate.upsert(sequenceQuery(), new Update().setOnInsert("value", 0L), SEQUENCES);
+        Document claim = mongoTemplate.findAndModify(backfillClaimQuery(), renewLease(backfillLease),
+                FindAndModifyOptions.options().returnNew(true), Document.class, SEQUENCES);
+        if (claim == null) {
+            return;
+        }
+        String cursor = claim.getString(BACKFILL_CURSOR);
+        long backfilled = 0;
+        List<User> users;
+        do {
+            users = cursor == null
+                    ? userRepository.findAllByOrderByIdAsc(Limit.of(backfillBatchSize))
+                    : userRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(backfillBatchSize));
+            if (users.isEmpty()) {
+                break;
+            }
+            recordUpserts(users);
+            cursor = users.getLast().getId();
+            backfilled += users.size();
+            mongoTemplate.updateFirst(sequenceQuery(), renewLease(backfillLease).set(BACKFILL_CURSOR, cursor), SEQUENCES);
+        } while (users.size() == backfillBatchSize);
+        mongoTemplate.updateFirst(sequenceQuery(), backfillDone(), SEQUENCES);
+        log.info("Backfilled user change feed with {} existing users", backfilled);
+    }
+
+    public void recordUpserts(List<User> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        long lastSequence = allocateSequences(users.size());
+        List<String> userIds = ids(users);
+        userChangeRepository.insert(upserts(userIds, userRepository.findAllById(userIds), lastSequence));
+    }
+
+    static List<UserChange> upserts(List<String> userIds, Iterable<User> current, long lastSequence) {
+        Map<String, User> byId = new HashMap<>();
+        current.forEach(user -> byId.put(user.getId(), user));
+        long first = lastSequence - userIds.size() + 1;
+        Instant now = Instant.now();
+        return IntStream.range(0, userIds.size())
+                .mapToObj(i -> {
+                    User user = byId.get(userIds.get(i));
+                    return UserChange.builder()
+                            .sequence(first + i)
+                            .type(user == null ? UserChangeType.DELETED : UserChangeType.UPSERTED)
+                            .userId(userIds.get(i))
+                            .name(user == null ? null : user.getName())
+                            .email(user == null ? null : user.getEmail())
+                            .occurredAt(now)
+                            .build();
+                })
+                .toList();
+    }
+
+    static List<String> ids(List<User> users) {
+        return users.stream().map(User::getId).toList();
+    }
+
+    private void record(UserChangeType type, String userId, String name, String email) {
+        userChangeRepository.insert(UserChange.builder()
+                .sequence(allocateSequences(1))
+                .type(type)
+                .userId(userId)
+                .name(name)
+                .email(email)
+                .occurredAt(Instant.now())
+                .build());
+    }
+
+    private long allocateSequences(int count) {
+        Document sequence = mongoTemplate.findAndModify(
+                sequenceQuery(),
+                new Update().inc("value", (long) count),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                Document.class,
+                SEQUENCES);
+        return ((Number) sequence.get("value")).longValue();
+    }
+
+    static Query sequenceQuery() {
+        return Query.query(Criteria.where("_id").is(USER_CHANGES));
+    }
+
+    static Query backfillClaimQuery() {
+        return sequenceQuery().addCriteria(new Criteria().andOperator(
+                Criteria.where(BACKFILLED).ne(true),
+                new Criteria().orOperator(
+                        Criteria.where(BACKFILL_LEASE).exists(false),
+                        Criteria.where(BACKFILL_LEASE).lt(Instant.now()))));
+    }
+
+    static Update renewLease(Duration lease) {
+        return new Update().set(BACKFILL_LEASE, Instant.now().plus(lease));
+    }
+
+    static Update backfillDone() {
+        return new Update().set(BACKFILLED, true).unset(BACKFILL_LEASE).unset(BACKFILL_CURSOR);
+    }
+
+    private static UserChangeDto mapToDto(UserChange change) {
+        return UserChangeDto.builder()
+                .sequence(change.getSequence())
+                .type(change.getType())
+                .userId(change.getUserId())
+                .name(change.getName())
+                .email(change.getEmail())
+                .occurredAt(change.getOccurredAt())
+                .build();
+    }
+}
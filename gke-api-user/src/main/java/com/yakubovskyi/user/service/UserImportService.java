@@ -0,0 +1,159 @@
+package com.yakubovskyi.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.yakubovskyi.user.document.User;
+import com.yakubovskyi.user.dto.BulkImportErrorDto;
+import com.yakubovskyi.user.dto.BulkImportUsersResponseDto;
+import com.yakubovskyi.user.dto.CreateUserRequestDto;
+import com.yakubovskyi.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+@Service
+@Profile("!reactive")
+@Timed(value = "user.import", histogram = true)
+public class UserImportService {
+
+    private final MongoTemplate mongoTemplate;
+    private final UserRepository userRepository;
+    private final UserChangeService userChangeService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public UserImportService(MongoTemplate mongoTemplate,
+                             UserRepository userRepository,
+                             UserChangeService userChangeService,
+                             ObjectMapper objectMapper,
+                             @Value("${user-import.batch-size:1000}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.userRepository = userRepository;
+        this.userChangeService = userChangeService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    public BulkImportUsersResponseDto importUsers(InputStream body, boolean upsert) throws IOException {
+        BulkImportUsersResponseDto result = BulkImportUsersResponseDto.builder()
+                .errors(new ArrayList<>())
+                .build();
+        List<CreateUserRequestDto> batch = new ArrayList<>(batchSize);
+        try (MappingIterator<CreateUserRequestDto> requests = objectMapper
+                .readerFor(CreateUserRequestDto.class)
+                .readValues(body)) {
+            while (true) {
+                try {
+                    if (!requests.hasNextValue()) {
+                        break;
+                    }
+                    batch.add(requests.nextValue());
+                } catch (JsonProcessingException e) {
+                    result.getErrors().add(BulkImportErrorDto.builder()
+                            .index(result.getReceived() + batch.size())
+                            .message("Malformed item, import stopped: " + e.getOriginalMessage())
+                            .build());
+                    break;
+                }
+                if (batch.size() == batchSize) {
+                    write(batch, upsert, result);
+                    batch.clear();
+                }
+            }
+        }
+        write(batch, upsert, result);
+        return result;
+    }
+
+    private void write(List<CreateUserRequestDto> batch, boolean upsert, BulkImportUsersResponseDto result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+        List<User> users = new ArrayList<>(batch.size());
+        for (CreateUserRequestDto request : batch) {
+            User user = User.builder()
+                    .name(request.getName())
+                    .email(request.getEmail())
+                    .build();
+            if (upsert && request.getEmail() != null) {
+                operations.upsert(Query.query(Criteria.where("email").is(request.getEmail())),
+                        Update.update("name", request.getName()));
+            } else {
+                user.setId(new ObjectId().toHexString());
+                operations.insert(user);
+            }
+            users.add(user);
+        }
+        Set<Integer> failed = new HashSet<>();
+        BulkWriteResult writeResult;
+        try {
+            writeResult = operations.execute();
+        } catch (BulkOperationException e) {
+            writeResult = e.getResult();
+            e.getErrors().forEach(error -> {
+                failed.add(error.getIndex());
+                result.getErrors().add(itemError(result, batch, error));
+            });
+        }
+        tally(result, users, failed, writeResult);
+        userChangeService.recordUpserts(written(users, failed));
+    }
+
+    static BulkImportErrorDto itemError(BulkImportUsersResponseDto result, List<CreateUserRequestDto> batch,
+                                        BulkWriteError error) {
+        return BulkImportErrorDto.builder()
+                .index(result.getReceived() + error.getIndex())
+                .email(batch.get(error.getIndex()).getEmail())
+                .message(error.getMessage())
+                .build();
+    }
+
+    static void tally(BulkImportUsersResponseDto result, List<User> users, Set<Integer> failed,
+                      BulkWriteResult writeResult) {
+        result.setReceived(result.getReceived() + users.size());
+        long inserted = IntStream.range(0, users.size())
+                .filter(i -> users.get(i).getId() != null && !failed.contains(i))
+                .count();
+        result.setInserted(result.getInserted() + (int) inserted + writeResult.getUpserts().size());
+        result.setUpdated(result.getUpdated() + writeResult.getMatchedCount());
+    }
+
+    private List<User> written(List<User> users, Set<Integer> failed) {
+        List<User> written = new ArrayList<>(users.size());
+        List<String> upsertedEmails = new ArrayList<>();
+        IntStream.range(0, users.size())
+                .filter(i -> !failed.contains(i))
+                .mapToObj(users::get)
+                .forEach(user -> {
+                    if (user.getId() != null) {
+                        written.add(user);
+                    } else {
+                        upsertedEmails.add(user.getEmail());
+                    }
+                });
+        if (!upsertedEmails.isEmpty()) {
+            written.addAll(userRepository.findByEmailIn(upsertedEmails));
+        }
+        return written;
+    }
+}
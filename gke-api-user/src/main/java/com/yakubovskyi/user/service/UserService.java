@@ -2,25 +2,41 @@ package com.yakubovskyi.user.service;
 
 import com.yakubovskyi.user.document.User;
 import com.yakubovskyi.user.dto.CreateUserRequestDto;
+import com.yakubovskyi.user.dto.UserPageResponseDto;
 import com.yakubovskyi.user.dto.UserResponseDto;
 import com.yakubovskyi.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
+@Timed(value = "user.service", histogram = true)
 public class UserService {
 
+    public static final int MAX_PAGE_LIMIT = 1000;
+
     private final UserRepository userRepository;
+    private final UserChangeService userChangeService;
 
     public UserResponseDto createUser(CreateUserRequestDto request) {
         User user = User.builder()
                 .name(request.getName())
                 .email(request.getEmail())
                 .build();
-        User savedUser = userRepository.save(user);
+        User savedUser = save(user);
+        userChangeService.recordUpsert(savedUser);
         return mapToResponse(savedUser);
     }
 
@@ -30,30 +46,70 @@ public class UserService {
                 .toList();
     }
 
+    public UserPageResponseDto getUsersPage(String afterId, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_LIMIT);
+        List<User> users = afterId == null
+                ? userRepository.findAllByOrderByIdAsc(Limit.of(pageSize))
+                : userRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize));
+        return UserPageResponseDto.builder()
+                .items(users.stream().map(this::mapToResponse).toList())
+                .nextCursor(users.size() == pageSize ? users.get(users.size() - 1).getId() : null)
+                .build();
+    }
+
+    public void streamAllUsers(Consumer<UserResponseDto> consumer) {
+        try (Stream<User> users = userRepository.streamAll()) {
+            users.forEach(user -> consumer.accept(mapToResponse(user)));
+        }
+    }
+
+    public List<UserResponseDto> getUsersByIds(Collection<String> ids) {
+        return userRepository.findAllById(ids).stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
     public UserResponseDto getUserById(String id) {
         User user = byIdOrThrow(id);
         return mapToResponse(user);
     }
 
+    public UserResponseDto getUserByEmail(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() ->
+                        new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found with email: " + email));
+        return mapToResponse(user);
+    }
+
     private User byIdOrThrow(String id) {
         return userRepository.findById(id)
                 .orElseThrow(() ->
-                        new RuntimeException("User not found with id: " + id));
+                        new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found with id: " + id));
     }
 
     public UserResponseDto updateUser(String id, CreateUserRequestDto request) {
         User user = byIdOrThrow(id);
         user.setName(request.getName());
         user.setEmail(request.getEmail());
-        User updatedUser = userRepository.save(user);
+        User updatedUser = save(user);
+        userChangeService.recordUpsert(updatedUser);
         return mapToResponse(updatedUser);
     }
 
     public void deleteUser(String id) {
         userRepository.delete(byIdOrThrow(id));
+        userChangeService.recordDelete(id);
+    }
+
+    private User save(User user) {
+        try {
+            return userRepository.save(user);
+        } catch (DuplicateKeyException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "User already exists with email: " + user.getEmail());
+        }
     }
 
-    private UserResponseDto mapToResponse(User user) {
+    UserResponseDto mapToResponse(User user) {
         return UserResponseDto.builder()
                 .id(user.getId())
                 .name(user.getName())
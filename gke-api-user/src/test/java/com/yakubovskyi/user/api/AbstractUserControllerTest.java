@@ -0,0 +1,482 @@
+package com.yakubovskyi.user.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yakubovskyi.user.document.User;
+import com.yakubovskyi.user.document.UserChange;
+import com.yakubovskyi.user.dto.CreateUserRequestDto;
+import com.yakubovskyi.user.service.ReactiveUserChangeService;
+import com.yakubovskyi.user.service.UserChangeService;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.Lifecycle;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.MongoDBContainer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "user-changes.backfill-batch-size=2")
+abstract class AbstractUserControllerTest {
+
+    static final MongoDBContainer mongo =
+            new MongoDBContainer("mongo:6.0");
+
+    static {
+        mongo.start();
+    }
+
+    @DynamicPropertySource
+    static void mongoProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private static final String API_URL = "/api/v1/user";
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.remove(new Query(), User.class);
+        mongoTemplate.dropCollection(UserChange.class);
+        mongoTemplate.dropCollection("sequences");
+    }
+
+    @Test
+    @DisplayName("Should create user successfully")
+    void createUser_Success() throws Exception {
+        CreateUserRequestDto request = CreateUserRequestDto.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .build();
+
+        client.post().uri(API_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(request))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("John Doe")
+                .jsonPath("$.email").isEqualTo("john@example.com")
+                .jsonPath("$.id").isNotEmpty();
+
+        List<User> users = mongoTemplate.findAll(User.class);
+        assertThat(users).hasSize(1);
+        assertThat(users.get(0).getName()).isEqualTo("John Doe");
+        assertThat(users.get(0).getEmail()).isEqualTo("john@example.com");
+    }
+
+    @Test
+    @DisplayName("Should get all users")
+    void getAllUsers_Success() {
+        mongoTemplate.save(User.builder().name("User 1").build());
+        mongoTemplate.save(User.builder().name("User 2").build());
+
+        client.get().uri(API_URL)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].name").isEqualTo("User 1")
+                .jsonPath("$[1].name").isEqualTo("User 2");
+    }
+
+    @Test
+    @DisplayName("Should return empty list when no users")
+    void getAllUsers_EmptyList() {
+        client.get().uri(API_URL)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Should get user by id")
+    void getUserById_Success() {
+        User savedUser = mongoTemplate.save(User.builder().name("Test User").email("test@example.com").build());
+
+        client.get().uri(API_URL + "/{id}", savedUser.getId())
+                .header("X-Trace-Id", "trace-123")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Trace-Id", "trace-123")
+                .expectHeader().valueMatches("Server-Timing", "user\\.app;dur=\\d+\\.\\d, user\\.db;dur=\\d+\\.\\d")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(savedUser.getId())
+                .jsonPath("$.name").isEqualTo("Test User")
+                .jsonPath("$.email").isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("Should get users by ids")
+    void getUsersByIds_Success() {
+        User first = mongoTemplate.save(User.builder().name("User 1").build());
+        User second = mongoTemplate.save(User.builder().name("User 2").build());
+        mongoTemplate.save(User.builder().name("User 3").build());
+
+        client.get().uri(uri -> uri.path(API_URL).queryParam("ids", first.getId(), second.getId(), "missing").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should look up users by ids from request body")
+    void lookupUsers_Success() throws Exception {
+        User first = mongoTemplate.save(User.builder().name("User 1").build());
+        mongoTemplate.save(User.builder().name("User 2").build());
+
+        client.post().uri(API_URL + "/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(List.of(first.getId())))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].name").isEqualTo("User 1");
+    }
+
+    @Test
+    @DisplayName("Should update user successfully")
+    void updateUser_Success() throws Exception {
+        User savedUser = mongoTemplate.save(User.builder().name("Old Name").email("old@example.com").build());
+
+        CreateUserRequestDto updateRequest = CreateUserRequestDto.builder()
+                .name("New Name")
+                .email("new@example.com")
+                .build();
+
+        client.put().uri(API_URL + "/{id}", savedUser.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(updateRequest))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(savedUser.getId())
+                .jsonPath("$.name").isEqualTo("New Name")
+                .jsonPath("$.email").isEqualTo("new@example.com");
+
+        User updatedUser = mongoTemplate.findById(savedUser.getId(), User.class);
+        assertThat(updatedUser).isNotNull();
+        assertThat(updatedUser.getName()).isEqualTo("New Name");
+        assertThat(updatedUser.getEmail()).isEqualTo("new@example.com");
+    }
+
+    @Test
+    @DisplayName("Should end the change feed with the stored user under concurrent updates")
+    void updateUser_ConcurrentUpdatesKeepFeedInOrder() throws Exception {
+        User savedUser = mongoTemplate.save(User.builder().name("Name 0").email("same@example.com").build());
+        List<String> requests = new ArrayList<>();
+        for (int i = 1; i <= 64; i++) {
+            requests.add(objectMapper.writeValueAsString(CreateUserRequestDto.builder()
+                    .name("Name " + i)
+                    .email("same@example.com")
+                    .build()));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> updates = requests.stream()
+                    .<Future<?>>map(request -> executor.submit(() -> {
+                        start.await();
+                        client.put().uri(API_URL + "/{id}", savedUser.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(request)
+                                .exchange()
+                                .expectStatus().isOk();
+                        return null;
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<?> update : updates) {
+                update.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        User storedUser = mongoTemplate.findById(savedUser.getId(), User.class);
+        UserChange lastChange = mongoTemplate.findOne(
+                new Query().with(Sort.by(Sort.Direction.DESC, "sequence")), UserChange.class);
+        assertThat(mongoTemplate.count(new Query(), UserChange.class)).isEqualTo(requests.size());
+        assertThat(storedUser).isNotNull();
+        assertThat(lastChange).isNotNull();
+        assertThat(lastChange.getName()).isEqualTo(storedUser.getName());
+    }
+
+    @Test
+    @DisplayName("Should delete user successfully")
+    void deleteUser_Success() {
+        User savedUser = mongoTemplate.save(User.builder().name("To Delete").build());
+        assertThat(mongoTemplate.findAll(User.class)).hasSize(1);
+
+        client.delete().uri(API_URL + "/{id}", savedUser.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        assertThat(mongoTemplate.findAll(User.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown user id")
+    void unknownUserId_NotFound() throws Exception {
+        CreateUserRequestDto request = CreateUserRequestDto.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .build();
+
+        client.get().uri(API_URL + "/{id}", "missing-id")
+                .exchange()
+                .expectStatus().isNotFound();
+        client.put().uri(API_URL + "/{id}", "missing-id")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(request))
+                .exchange()
+                .expectStatus().isNotFound();
+        client.delete().uri(API_URL + "/{id}", "missing-id")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should record user changes in a sequenced feed")
+    void getUserChanges_Success() throws Exception {
+        CreateUserRequestDto request = CreateUserRequestDto.builder()
+                .name("John Doe")
+                .email("john@example.com")
+                .build();
+        String id = objectMapper.readTree(client.post().uri(API_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(request))
+                .exchange()
+                .expectBody(String.class)
+                .returnResult().getResponseBody()).get("id").asText();
+        request.setName("Jane Doe");
+        client.put().uri(API_URL + "/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(request))
+                .exchange()
+                .expectStatus().isOk();
+        client.delete().uri(API_URL + "/{id}", id)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        client.get().uri("/api/v1/user-changes?after=0")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(3)
+                .jsonPath("$.items[0].sequence").isEqualTo(1)
+                .jsonPath("$.items[0].type").isEqualTo("UPSERTED")
+                .jsonPath("$.items[1].name").isEqualTo("Jane Doe")
+                .jsonPath("$.items[2].type").isEqualTo("DELETED")
+                .jsonPath("$.items[2].userId").isEqualTo(id)
+                .jsonPath("$.nextCursor").isEqualTo(3);
+
+        client.get().uri("/api/v1/user-changes?after=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].sequence").isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should resume an interrupted backfill from its cursor once the lease has expired")
+    void backfill_ResumesFromCursor() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(mongoTemplate.save(User.builder().name("User " + i).email("user" + i + "@example.com").build()));
+        }
+        Class<? extends Lifecycle> service = context.getEnvironment().matchesProfiles("reactive")
+                ? ReactiveUserChangeService.class
+                : UserChangeService.class;
+        Lifecycle backfill = context.getBean(service);
+
+        mongoTemplate.save(new Document("_id", "user_changes")
+                .append("value", 0L)
+                .append("backfillCursor", users.get(1).getId())
+                .append("backfillLeaseUntil", Date.from(Instant.now().plusSeconds(60))), "sequences");
+        backfill.start();
+        assertThat(mongoTemplate.count(new Query(), UserChange.class)).isZero();
+
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is("user_changes")),
+                Update.update("backfillLeaseUntil", Date.from(Instant.now().minusSeconds(1))), "sequences");
+        backfill.start();
+        backfill.start();
+
+        List<UserChange> changes = mongoTemplate.find(
+                new Query().with(Sort.by("sequence")), UserChange.class);
+        assertThat(changes).extracting(UserChange::getUserId)
+                .containsExactly(users.get(2).getId(), users.get(3).getId(), users.get(4).getId());
+        assertThat(changes).extracting(UserChange::getSequence).containsExactly(1L, 2L, 3L);
+        Document sequences = mongoTemplate.findById("user_changes", Document.class, "sequences");
+        assertThat(sequences).containsEntry("backfilled", true).doesNotContainKey("backfillCursor");
+    }
+
+    @Test
+    @DisplayName("Should get user by email")
+    void getUserByEmail_Success() {
+        User savedUser = mongoTemplate.save(User.builder().name("Test User").email("test@example.com").build());
+
+        client.get().uri(API_URL + "/by-email/{email}", "test@example.com")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(savedUser.getId())
+                .jsonPath("$.name").isEqualTo("Test User");
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown email")
+    void getUserByEmail_NotFound() {
+        client.get().uri(API_URL + "/by-email/{email}", "missing@example.com")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should reject a second user with the same email")
+    void createUser_DuplicateEmail() throws Exception {
+        mongoTemplate.save(User.builder().name("First").email("john@example.com").build());
+        CreateUserRequestDto request = CreateUserRequestDto.builder()
+                .name("Second")
+                .email("john@example.com")
+                .build();
+
+        client.post().uri(API_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(request))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+
+        assertThat(mongoTemplate.findAll(User.class)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should page through users by id")
+    void getUsersPage_Success() {
+        mongoTemplate.save(User.builder().name("User 1").build());
+        User second = mongoTemplate.save(User.builder().name("User 2").build());
+        mongoTemplate.save(User.builder().name("User 3").build());
+
+        client.get().uri(API_URL + "/page?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(2)
+                .jsonPath("$.items[0].name").isEqualTo("User 1")
+                .jsonPath("$.nextCursor").isEqualTo(second.getId());
+
+        client.get().uri(API_URL + "/page?afterId={afterId}&limit=2", second.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].name").isEqualTo("User 3")
+                .jsonPath("$.nextCursor").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should export all users as NDJSON")
+    void exportUsers_Success() {
+        mongoTemplate.save(User.builder().name("User 1").build());
+        mongoTemplate.save(User.builder().name("User 2").build());
+
+        String body = client.get().uri(API_URL + "/export")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        assertThat(body.lines()).hasSize(2)
+                .allSatisfy(line -> assertThat(objectMapper.readTree(line).get("name").asText()).startsWith("User"));
+    }
+
+    @Test
+    @DisplayName("Should bulk import users and report duplicates per item")
+    void importUsers_ReportsItemErrors() throws Exception {
+        mongoTemplate.save(User.builder().name("Existing").email("taken@example.com").build());
+        List<CreateUserRequestDto> requests = List.of(
+                CreateUserRequestDto.builder().name("User 1").email("one@example.com").build(),
+                CreateUserRequestDto.builder().name("User 2").email("taken@example.com").build(),
+                CreateUserRequestDto.builder().name("User 3").build());
+
+        client.post().uri(API_URL + "/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(requests))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.received").isEqualTo(3)
+                .jsonPath("$.inserted").isEqualTo(2)
+                .jsonPath("$.errors.length()").isEqualTo(1)
+                .jsonPath("$.errors[0].index").isEqualTo(1)
+                .jsonPath("$.errors[0].email").isEqualTo("taken@example.com");
+
+        assertThat(mongoTemplate.findAll(User.class)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should upsert users by email from NDJSON")
+    void importUsers_UpsertByEmail() {
+        User existing = mongoTemplate.save(User.builder().name("Old Name").email("john@example.com").build());
+        String ndjson = """
+                {"name":"New Name","email":"john@example.com"}
+                {"name":"Jane Doe","email":"jane@example.com"}
+                """;
+
+        client.post().uri(API_URL + "/bulk?upsert=true")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue(ndjson)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.received").isEqualTo(2)
+                .jsonPath("$.inserted").isEqualTo(1)
+                .jsonPath("$.updated").isEqualTo(1)
+                .jsonPath("$.errors.length()").isEqualTo(0);
+
+        assertThat(mongoTemplate.findById(existing.getId(), User.class))
+                .extracting(User::getName)
+                .isEqualTo("New Name");
+        assertThat(mongoTemplate.findAll(User.class)).hasSize(2);
+    }
+}
@@ -0,0 +1,27 @@
+package com.yakubovskyi.user.api;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("reactive")
+class ReactiveUserControllerTest extends AbstractUserControllerTest {
+
+    @TestConfiguration
+    static class FixtureMongo {
+
+        @Bean(destroyMethod = "close")
+        MongoClient fixtureMongoClient(MongoProperties properties) {
+            return MongoClients.create(properties.getUri());
+        }
+
+        @Bean
+        MongoTemplate mongoTemplate(MongoClient fixtureMongoClient, MongoProperties properties) {
+            return new MongoTemplate(fixtureMongoClient, properties.getMongoClientDatabase());
+        }
+    }
+}
@@ -1,151 +1,4 @@
 package com.yakubovskyi.user.api;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.yakubovskyi.user.document.User;
-import com.yakubovskyi.user.dto.CreateUserRequestDto;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.http.MediaType;
-import org.springframework.test.context.DynamicPropertyRegistry;
-import org.springframework.test.context.DynamicPropertySource;
-import org.springframework.test.web.servlet.MockMvc;
-import org.testcontainers.containers.MongoDBContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
-
-import java.util.List;
-
-import static org.assertj.core.api.Assertions.assertThat;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
-
-@SpringBootTest
-@Testcontainers
-@AutoConfigureMockMvc
-class UserControllerTest {
-
-    @Container
-    static MongoDBContainer mongo =
-            new MongoDBContainer("mongo:6.0");
-
-    @DynamicPropertySource
-    static void mongoProps(DynamicPropertyRegistry registry) {
-        registry.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
-    }
-
-    @Autowired
-    private MockMvc mvc;
-
-    @Autowired
-    private MongoTemplate mongoTemplate;
-
-    @Autowired
-    private ObjectMapper objectMapper;
-
-    private static final String API_URL = "/api/v1/user";
-
-    @BeforeEach
-    void setUp() {
-        mongoTemplate.dropCollection(User.class);
-    }
-
-    @Test
-    @DisplayName("Should create user successfully")
-    void createUser_Success() throws Exception {
-        CreateUserRequestDto request = CreateUserRequestDto.builder()
-                .name("John Doe")
-                .email("john@example.com")
-                .build();
-
-        mvc.perform(post(API_URL)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.name").value("John Doe"))
-                .andExpect(jsonPath("$.email").value("john@example.com"))
-                .andExpect(jsonPath("$.id").isNotEmpty());
-
-        List<User> users = mongoTemplate.findAll(User.class);
-        assertThat(users).hasSize(1);
-        assertThat(users.get(0).getName()).isEqualTo("John Doe");
-        assertThat(users.get(0).getEmail()).isEqualTo("john@example.com");
-    }
-
-    @Test
-    @DisplayName("Should get all users")
-    void getAllUsers_Success() throws Exception {
-        mongoTemplate.save(User.builder().name("User 1").build());
-        mongoTemplate.save(User.builder().name("User 2").build());
-
-        mvc.perform(get(API_URL))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(2))
-                .andExpect(jsonPath("$[0].name").value("User 1"))
-                .andExpect(jsonPath("$[1].name").value("User 2"));
-    }
-
-    @Test
-    @DisplayName("Should return empty list when no users")
-    void getAllUsers_EmptyList() throws Exception {
-        mvc.perform(get(API_URL))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(0));
-    }
-
-    @Test
-    @DisplayName("Should get user by id")
-    void getUserById_Success() throws Exception {
-        User savedUser = mongoTemplate.save(User.builder().name("Test User").email("test@example.com").build());
-
-        mvc.perform(get(API_URL + "/{id}", savedUser.getId()))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(savedUser.getId()))
-                .andExpect(jsonPath("$.name").value("Test User"))
-                .andExpect(jsonPath("$.email").value("test@example.com"));
-    }
-
-    @Test
-    @DisplayName("Should update user successfully")
-    void updateUser_Success() throws Exception {
-        User savedUser = mongoTemplate.save(User.builder().name("Old Name").email("old@example.com").build());
-
-        CreateUserRequestDto updateRequest = CreateUserRequestDto.builder()
-                .name("New Name")
-                .email("new@example.com")
-                .build();
-
-        mvc.perform(put(API_URL + "/{id}", savedUser.getId())
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(updateRequest)))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(savedUser.getId()))
-                .andExpect(jsonPath("$.name").value("New Name"))
-                .andExpect(jsonPath("$.email").value("new@example.com"));
-
-        User updatedUser = mongoTemplate.findById(savedUser.getId(), User.class);
-        assertThat(updatedUser).isNotNull();
-        assertThat(updatedUser.getName()).isEqualTo("New Name");
-        assertThat(updatedUser.getEmail()).isEqualTo("new@example.com");
-    }
-
-    @Test
-    @DisplayName("Should delete user successfully")
-    void deleteUser_Success() throws Exception {
-        User savedUser = mongoTemplate.save(User.builder().name("To Delete").build());
-        assertThat(mongoTemplate.findAll(User.class)).hasSize(1);
-
-        mvc.perform(delete(API_URL + "/{id}", savedUser.getId()))
-                .andExpect(status().isNoContent());
-
-        assertThat(mongoTemplate.findAll(User.class)).isEmpty();
-    }
+class UserControllerTest extends AbstractUserControllerTest {
 }
@@ -0,0 +1,92 @@
+package com.yakubovskyi.user.benchmark;
+
+import com.yakubovskyi.user.document.User;
+import com.yakubovskyi.user.dto.CreateUserRequestDto;
+import com.yakubovskyi.user.service.UserImportService;
+import com.yakubovskyi.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest
+@Testcontainers
+class UserImportBenchmarkTest {
+
+    private static final int USERS = 20_000;
+    private static final int WARMUP_USERS = 2_000;
+
+    @Container
+    static MongoDBContainer mongo =
+            new MongoDBContainer("mongo:6.0");
+
+    @DynamicPropertySource
+    static void mongoProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.remove(new Query(), User.class);
+    }
+
+    @Test
+    @DisplayName("Bulk import throughput vs single creates")
+    void bulkVsSingleCreate() throws IOException {
+        createSingle("warmup-single", WARMUP_USERS);
+        importBulk("warmup-bulk", WARMUP_USERS);
+        mongoTemplate.remove(new Query(), User.class);
+
+        long start = System.nanoTime();
+        createSingle("single", USERS);
+        double single = USERS / ((System.nanoTime() - start) / 1e9);
+
+        start = System.nanoTime();
+        importBulk("bulk", USERS);
+        double bulk = USERS / ((System.nanoTime() - start) / 1e9);
+
+        System.out.printf("single create: %,.0f users/s%n", single);
+        System.out.printf("bulk import:   %,.0f users/s (%.1fx)%n", bulk, bulk / single);
+        assertThat(mongoTemplate.count(new Query(), User.class)).isEqualTo(2L * USERS);
+    }
+
+    private void createSingle(String prefix, int count) {
+        IntStream.range(0, count).forEach(i -> userService.createUser(
+                new CreateUserRequestDto("User " + i, prefix + "-" + i + "@example.com")));
+    }
+
+    private void importBulk(String prefix, int count) throws IOException {
+        String ndjson = IntStream.range(0, count)
+                .mapToObj(i -> "{\"name\":\"User " + i + "\",\"email\":\"" + prefix + "-" + i + "@example.com\"}")
+                .collect(Collectors.joining("\n"));
+        assertThat(userImportService.importUsers(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), false).getErrors()).isEmpty();
+    }
+}